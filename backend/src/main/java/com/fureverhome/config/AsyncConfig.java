@@ -0,0 +1,12 @@
+package com.fureverhome.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Enables @Async event listeners; they run on Spring Boot's applicationTaskExecutor
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,153 @@
+package com.fureverhome.config;
+
+import com.fureverhome.service.ImageVariantService;
+import com.fureverhome.storage.Blob;
+import com.fureverhome.storage.BlobDescriptor;
+import com.fureverhome.storage.BlobStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Drains image bytes left in legacy database columns (dogs.image, dog_images.data,
+ * users.avatar) into the BlobStore, and moves avatar references off the users row
+ * into user_avatars. Rows are moved one at a time so only a single
+ * image is ever in flight; each column is nulled out once its blob is stored, so the
+ * job is a no-op after the first successful run. Afterwards, any dog image without
+ * resized variants gets them generated, except images already recorded as undecodable.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class BlobStoreMigration {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlobStore blobStore;
+    private final ImageVariantService imageVariantService;
+
+    @Bean
+    public CommandLineRunner migrateLegacyBlobs() {
+        return args -> {
+            int dogImages = 0;
+            if (columnExists("dog_images", "data")) {
+                jdbcTemplate.execute("ALTER TABLE dog_images ALTER COLUMN data DROP NOT NULL");
+                dogImages += drain("dog_images", "dog_id", "data", (dogId, blob) -> {
+                    jdbcTemplate.update(
+                            "UPDATE dog_images SET size = ?, sha256 = ?, data = NULL WHERE dog_id = ?",
+                            blob.getSize(), blob.getSha256(), dogId);
+                    jdbcTemplate.update(
+                            "UPDATE dogs SET has_image = TRUE, image_size = ?, image_sha256 = ? WHERE id = ?",
+                            blob.getSize(), blob.getSha256(), dogId);
+                });
+            }
+            if (columnExists("dogs", "image")) {
+                dogImages += drain("dogs", "id", "image", (dogId, blob) -> {
+                    jdbcTemplate.update(
+                            "INSERT INTO dog_images (dog_id, content_type, size, sha256, updated_at) " +
+                            "SELECT id, image_content_type, ?, ?, now() FROM dogs WHERE id = ? " +
+                            "ON CONFLICT (dog_id) DO UPDATE SET content_type = EXCLUDED.content_type, " +
+                            "size = EXCLUDED.size, sha256 = EXCLUDED.sha256, updated_at = EXCLUDED.updated_at",
+                            blob.getSize(), blob.getSha256(), dogId);
+                    jdbcTemplate.update(
+                            "UPDATE dogs SET has_image = TRUE, image_size = ?, image_sha256 = ?, image = NULL WHERE id = ?",
+                            blob.getSize(), blob.getSha256(), dogId);
+                });
+            }
+
+            int avatars = 0;
+            if (columnExists("users", "avatar")) {
+                avatars += drain("users", "id", "avatar", (userId, blob) -> {
+                    moveAvatar(userId, blob);
+                    jdbcTemplate.update("UPDATE users SET avatar = NULL WHERE id = ?", userId);
+                });
+            }
+            if (columnExists("users", "avatar_sha256")) {
+                // Avatars already in the blob store but still referenced from the users row
+                List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                        "SELECT id, avatar_sha256 FROM users WHERE avatar_sha256 IS NOT NULL");
+                for (Map<String, Object> row : rows) {
+                    Long userId = ((Number) row.get("id")).longValue();
+                    String sha256 = (String) row.get("avatar_sha256");
+                    Optional<Blob> blob = blobStore.open(sha256);
+                    if (blob.isPresent()) {
+                        moveAvatar(userId, new BlobDescriptor(sha256, blob.get().getSize()));
+                        avatars++;
+                    }
+                    jdbcTemplate.update("UPDATE users SET avatar_sha256 = NULL WHERE id = ?", userId);
+                }
+            }
+
+            if (dogImages > 0 || avatars > 0) {
+                System.out.println("Moved " + dogImages + " dog images and " + avatars + " avatars into the blob store");
+            }
+
+            int variants = imageVariantService.generateMissingImageVariants();
+            if (variants > 0) {
+                System.out.println("Generated image variants for " + variants + " dogs");
+            }
+        };
+    }
+
+    private int drain(String table, String idColumn, String blobColumn, StoredBlobHandler onStored) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT " + idColumn + " FROM " + table + " WHERE " + blobColumn + " IS NOT NULL",
+                Long.class);
+
+        int moved = 0;
+        for (Long id : ids) {
+            BlobDescriptor blob = jdbcTemplate.query(
+                    "SELECT " + blobColumn + " FROM " + table + " WHERE " + idColumn + " = ?",
+                    rs -> {
+                        if (!rs.next()) {
+                            return null;
+                        }
+                        try (InputStream content = rs.getBinaryStream(1)) {
+                            return content != null ? blobStore.put(content) : null;
+                        } catch (IOException e) {
+                            throw new UncheckedIOException("Failed to move " + table + "." + blobColumn + " for id " + id, e);
+                        }
+                    },
+                    id);
+            if (blob != null && blob.getSize() > 0) {
+                onStored.stored(id, blob);
+                moved++;
+            }
+        }
+        return moved;
+    }
+
+    /**
+     * Record a stored avatar in user_avatars and bump the user's avatar version
+     */
+    private void moveAvatar(Long userId, BlobDescriptor blob) {
+        jdbcTemplate.update(
+                "INSERT INTO user_avatars (user_id, sha256, content_type, size, avatar_version, updated_at) " +
+                "SELECT id, ?, avatar_content_type, ?, avatar_version + 1, now() FROM users WHERE id = ? " +
+                "ON CONFLICT (user_id) DO UPDATE SET sha256 = EXCLUDED.sha256, content_type = EXCLUDED.content_type, " +
+                "size = EXCLUDED.size, avatar_version = EXCLUDED.avatar_version, updated_at = EXCLUDED.updated_at",
+                blob.getSha256(), blob.getSize(), userId);
+        jdbcTemplate.update(
+                "UPDATE users SET has_avatar = TRUE, avatar_version = avatar_version + 1 WHERE id = ?",
+                userId);
+    }
+
+    private boolean columnExists(String table, String column) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM information_schema.columns WHERE table_name = ? AND column_name = ?",
+                Integer.class, table, column);
+        return count != null && count > 0;
+    }
+
+    @FunctionalInterface
+    private interface StoredBlobHandler {
+        void stored(Long id, BlobDescriptor blob);
+    }
+}
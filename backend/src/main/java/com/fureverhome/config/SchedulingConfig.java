@@ -0,0 +1,12 @@
+package com.fureverhome.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (search suggestion refresh and similar housekeeping)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
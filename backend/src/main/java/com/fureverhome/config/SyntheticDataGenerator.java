@@ -0,0 +1,361 @@
+package com.fureverhome.config;
+
+import com.fureverhome.model.AdoptionRequest;
+import com.fureverhome.service.FavoriteService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Seeds a production-sized dataset for load and scaling tests (run with
+ * {@code --spring.profiles.active=datagen}; volumes in application-datagen.properties).
+ *
+ * Everything derives from one seed and a fixed end date, so every run on an empty
+ * database produces the same rows. Dog popularity and user activity follow Zipf
+ * distributions, so a few dogs collect most favorites and requests, as in real traffic.
+ * Rows go in through batched JDBC inserts, not JPA.
+ */
+@Configuration
+@Profile("datagen")
+@RequiredArgsConstructor
+public class SyntheticDataGenerator {
+
+    private static final String EMAIL_DOMAIN = "@datagen.fureverhome.test";
+
+    private static final String[] BREEDS = {
+            "Mixed Breed", "Labrador Retriever", "German Shepherd", "Golden Retriever", "Beagle",
+            "Aspin", "Pit Bull Terrier", "Shih Tzu", "Chihuahua", "Siberian Husky", "Poodle",
+            "Dachshund", "Pomeranian", "Boxer", "Border Collie", "Rottweiler", "Corgi",
+            "Jack Russell Terrier", "Doberman Pinscher", "Great Dane"
+    };
+    private static final double[] BREED_WEIGHTS = {
+            30, 9, 7, 7, 6, 6, 5, 5, 4, 3, 3, 3, 3, 2, 2, 2, 1.5, 1.5, 1, 0.5
+    };
+
+    private static final String[] NAMES = {
+            "Max", "Bella", "Charlie", "Luna", "Cooper", "Daisy", "Rocky", "Lucy", "Buddy", "Molly",
+            "Bailey", "Sadie", "Duke", "Coco", "Bear", "Lola", "Tucker", "Rosie", "Milo", "Zoe",
+            "Oliver", "Ruby", "Jack", "Penny", "Toby", "Maggie", "Leo", "Chloe", "Bruno", "Stella",
+            "Shadow", "Nala", "Zeus", "Pepper", "Oreo", "Ginger", "Scout", "Hazel", "Bentley", "Willow"
+    };
+    private static final String[] TRAITS = {
+            "friendly", "energetic", "gentle", "playful", "calm", "curious", "loyal", "shy",
+            "affectionate", "smart", "goofy", "independent"
+    };
+    private static final String[] HABITS = {
+            "loves long walks", "plays fetch for hours", "enjoys belly rubs", "is great with kids",
+            "gets along with cats", "knows basic commands", "likes quiet evenings", "loves to swim",
+            "is fully house-trained", "enjoys car rides"
+    };
+    private static final String[] HEALTH_STATUSES = {
+            "Healthy", "Vaccinated", "Recovering", "Needs Medication", "Special Needs"
+    };
+    private static final double[] HEALTH_WEIGHTS = {70, 15, 7, 5, 3};
+
+    private static final String[] OCCUPATIONS = {
+            "Teacher", "Nurse", "Software Engineer", "Student", "Accountant", "Designer", "Driver",
+            "Sales Associate", "Retired", "Freelancer"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final FavoriteService favoriteService;
+
+    @Value("${datagen.seed:42}")
+    private long seed;
+
+    @Value("${datagen.users:50000}")
+    private int userCount;
+
+    @Value("${datagen.dogs:20000}")
+    private int dogCount;
+
+    @Value("${datagen.favorites:1000000}")
+    private int favoriteCount;
+
+    @Value("${datagen.adoption-requests:200000}")
+    private int adoptionRequestCount;
+
+    @Value("${datagen.batch-size:5000}")
+    private int batchSize;
+
+    // Timestamps are spread over the two years before this instant
+    @Value("${datagen.until:2025-01-01T00:00:00}")
+    private String until;
+
+    private LocalDateTime end;
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)  // before DataInitializer, which then skips its sample dogs
+    public CommandLineRunner generateData() {
+        return args -> {
+            end = LocalDateTime.parse(until);
+            Integer existing = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM users WHERE email LIKE ?", Integer.class, "%" + EMAIL_DOMAIN);
+            if (existing != null && existing > 0) {
+                System.out.println("Synthetic data already present (" + existing + " users), skipping generation");
+                return;
+            }
+
+            long start = System.nanoTime();
+            SplittableRandom random = new SplittableRandom(seed);
+            long[] userIds = insertUsers(random.split());
+            boolean[] adopted = new boolean[dogCount];
+            long[] dogIds = insertDogs(random.split(), adopted);
+
+            // Popularity rank -> dog index, shuffled so popularity doesn't follow insertion order
+            int[] dogsByPopularity = shuffledIndexes(dogCount, random.split());
+            double[] dogZipf = zipfCumulative(dogCount, 1.0);
+
+            insertFavorites(random.split(), userIds, dogIds, dogsByPopularity, dogZipf);
+            insertAdoptionRequests(random.split(), userIds, dogIds, adopted, dogsByPopularity, dogZipf);
+            favoriteService.reconcileFavoriteCounts();
+
+            System.out.println("Synthetic data generated in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        };
+    }
+
+    private long[] insertUsers(SplittableRandom random) {
+        long start = System.nanoTime();
+        long before = maxId("users");
+        // One hash for everyone: BCrypt per row would take longer than the whole run
+        String passwordHash = passwordEncoder.encode("password123");
+
+        Batch batch = new Batch("INSERT INTO users (username, email, password_hash, role, first_name, last_name, "
+                + "phone_number, address, has_avatar, avatar_version, created_at) "
+                + "VALUES (?, ?, ?, 'USER', ?, ?, ?, ?, FALSE, 0, ?)");
+        for (int i = 0; i < userCount; i++) {
+            String firstName = pick(NAMES, random);
+            batch.add("gen_user_" + i, "user" + i + EMAIL_DOMAIN, passwordHash, firstName, "Tester" + i,
+                    phone(random), (1 + random.nextInt(999)) + " Synthetic St., Block " + random.nextInt(50),
+                    timestamp(random));
+        }
+        batch.flush();
+
+        long[] ids = idsAfter("users", before);
+        report("users", ids.length, start);
+        return ids;
+    }
+
+    private long[] insertDogs(SplittableRandom random, boolean[] adopted) {
+        long start = System.nanoTime();
+        long before = maxId("dogs");
+        double[] breedCumulative = cumulative(BREED_WEIGHTS);
+        double[] healthCumulative = cumulative(HEALTH_WEIGHTS);
+
+        Batch batch = new Batch("INSERT INTO dogs (name, breed, age, gender, description, health_status, "
+                + "image_url, has_image, available, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, NULL, FALSE, ?, ?, ?)");
+        for (int i = 0; i < dogCount; i++) {
+            // Shelters skew young: geometric-ish ages, mean about 3 years
+            int age = Math.min(15, (int) (-Math.log(1 - random.nextDouble()) * 3));
+            adopted[i] = random.nextDouble() < 0.15;
+            String description = capitalize(pick(TRAITS, random)) + " and " + pick(TRAITS, random)
+                    + ". " + capitalize(pick(HABITS, random)) + " and " + pick(HABITS, random) + ".";
+            Timestamp createdAt = timestamp(random);
+            batch.add(pick(NAMES, random), BREEDS[sample(breedCumulative, random)], age,
+                    random.nextBoolean() ? "MALE" : "FEMALE", description,
+                    HEALTH_STATUSES[sample(healthCumulative, random)], !adopted[i], createdAt, createdAt);
+        }
+        batch.flush();
+
+        long[] ids = idsAfter("dogs", before);
+        report("dogs", ids.length, start);
+        return ids;
+    }
+
+    /**
+     * How many favorites each user has is Zipf-distributed over users, and which dogs they
+     * pick is Zipf-distributed over dog popularity. Duplicates are redrawn.
+     */
+    private void insertFavorites(SplittableRandom random, long[] userIds, long[] dogIds,
+                                 int[] dogsByPopularity, double[] dogZipf) {
+        long start = System.nanoTime();
+        double[] userZipf = zipfCumulative(userIds.length, 0.8);
+        int[] usersByActivity = shuffledIndexes(userIds.length, random.split());
+        int[] perUser = new int[userIds.length];
+        for (int i = 0; i < favoriteCount; i++) {
+            perUser[usersByActivity[sample(userZipf, random)]]++;
+        }
+
+        // Nobody favorites more than a tenth of the catalog; keeps redraws cheap
+        int cap = Math.max(1, dogIds.length / 10);
+        Batch batch = new Batch("INSERT INTO favorites (user_id, dog_id, created_at) VALUES (?, ?, ?)");
+        long inserted = 0;
+        Set<Integer> chosen = new HashSet<>();
+        for (int user = 0; user < userIds.length; user++) {
+            int wanted = Math.min(perUser[user], cap);
+            chosen.clear();
+            while (chosen.size() < wanted) {
+                int dog = dogsByPopularity[sample(dogZipf, random)];
+                if (chosen.add(dog)) {
+                    batch.add(userIds[user], dogIds[dog], timestamp(random));
+                }
+            }
+            inserted += wanted;
+        }
+        batch.flush();
+        report("favorites", inserted, start);
+    }
+
+    /**
+     * Adopted dogs get exactly one APPROVED request; every other request is PENDING on an
+     * available dog or REJECTED, so statuses stay consistent with dogs.available.
+     */
+    private void insertAdoptionRequests(SplittableRandom random, long[] userIds, long[] dogIds, boolean[] adopted,
+                                        int[] dogsByPopularity, double[] dogZipf) {
+        long start = System.nanoTime();
+        Batch batch = new Batch("INSERT INTO adoption_requests (dog_id, user_id, status, message, full_name, email, "
+                + "phone, address, occupation, household_members, has_other_pets, pet_experience, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        long inserted = 0;
+        for (int dog = 0; dog < dogIds.length && inserted < adoptionRequestCount; dog++) {
+            if (adopted[dog]) {
+                addRequest(batch, random, userIds, dogIds[dog], AdoptionRequest.Status.APPROVED);
+                inserted++;
+            }
+        }
+        for (; inserted < adoptionRequestCount; inserted++) {
+            int dog = dogsByPopularity[sample(dogZipf, random)];
+            AdoptionRequest.Status status = adopted[dog] || random.nextDouble() < 0.4
+                    ? AdoptionRequest.Status.REJECTED
+                    : AdoptionRequest.Status.PENDING;
+            addRequest(batch, random, userIds, dogIds[dog], status);
+        }
+        batch.flush();
+        report("adoption requests", inserted, start);
+    }
+
+    private void addRequest(Batch batch, SplittableRandom random, long[] userIds, long dogId,
+                            AdoptionRequest.Status status) {
+        int user = random.nextInt(userIds.length);
+        Timestamp createdAt = timestamp(random);
+        batch.add(dogId, userIds[user], status.name(),
+                "I would love to give this dog a home because it " + pick(HABITS, random) + ".",
+                pick(NAMES, random) + " Tester" + user, "user" + user + EMAIL_DOMAIN, phone(random),
+                (1 + random.nextInt(999)) + " Synthetic St., Block " + random.nextInt(50),
+                pick(OCCUPATIONS, random), 1 + random.nextInt(6), random.nextBoolean(),
+                "I have cared for dogs for " + random.nextInt(20) + " years.", createdAt, createdAt);
+    }
+
+    /**
+     * Buffers rows and sends them as one JDBC batch every batchSize rows
+     */
+    private final class Batch {
+        private final String sql;
+        private final List<Object[]> rows = new ArrayList<>(batchSize);
+
+        private Batch(String sql) {
+            this.sql = sql;
+        }
+
+        private void add(Object... row) {
+            rows.add(row);
+            if (rows.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, rows);
+                rows.clear();
+            }
+        }
+    }
+
+    private long maxId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        return max == null ? 0 : max;
+    }
+
+    /**
+     * Ids assigned to the rows just inserted; nothing else writes while the generator runs
+     */
+    private long[] idsAfter(String table, long before) {
+        return jdbcTemplate.queryForList("SELECT id FROM " + table + " WHERE id > ? ORDER BY id", Long.class, before)
+                .stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+
+    private Timestamp timestamp(SplittableRandom random) {
+        return Timestamp.valueOf(end.minusSeconds(random.nextLong(2L * 365 * 24 * 3600)));
+    }
+
+    private static void report(String what, long rows, long startNanos) {
+        System.out.println("Generated " + rows + " " + what + " in " + (System.nanoTime() - startNanos) / 1_000_000 + " ms");
+    }
+
+    /**
+     * Cumulative weights of ranks 1..n under Zipf with exponent s
+     */
+    private static double[] zipfCumulative(int n, double s) {
+        double[] weights = new double[n];
+        for (int rank = 0; rank < n; rank++) {
+            weights[rank] = 1 / Math.pow(rank + 1, s);
+        }
+        return cumulative(weights);
+    }
+
+    private static double[] cumulative(double[] weights) {
+        double[] cumulative = new double[weights.length];
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            total += weights[i];
+            cumulative[i] = total;
+        }
+        return cumulative;
+    }
+
+    /**
+     * Index drawn in proportion to its weight, by binary search over the cumulative weights
+     */
+    private static int sample(double[] cumulative, SplittableRandom random) {
+        double target = random.nextDouble() * cumulative[cumulative.length - 1];
+        int index = Arrays.binarySearch(cumulative, target);
+        return Math.min(index < 0 ? -index - 1 : index, cumulative.length - 1);
+    }
+
+    private static int[] shuffledIndexes(int n, SplittableRandom random) {
+        int[] indexes = new int[n];
+        for (int i = 0; i < n; i++) {
+            indexes[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = indexes[i];
+            indexes[i] = indexes[j];
+            indexes[j] = swap;
+        }
+        return indexes;
+    }
+
+    private static String pick(String[] values, SplittableRandom random) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String phone(SplittableRandom random) {
+        return "+63 9" + (100_000_000 + random.nextInt(900_000_000));
+    }
+
+    private static String capitalize(String value) {
+        return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+    }
+}
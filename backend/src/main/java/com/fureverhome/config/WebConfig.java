@@ -6,7 +6,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 /**
  * Web MVC Configuration
  * Note: CORS is handled globally in SecurityConfig
- * Note: Avatars are stored in database, no file upload handling needed
+ * Note: Dog images and avatars are stored in the BlobStore (see storage package)
  */
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
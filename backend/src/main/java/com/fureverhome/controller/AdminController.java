@@ -0,0 +1,175 @@
+package com.fureverhome.controller;
+
+import com.fureverhome.dto.AdminStatsDTO;
+import com.fureverhome.dto.DogEngagementDTO;
+import com.fureverhome.dto.DogImportReportDTO;
+import com.fureverhome.dto.ExportFormat;
+import com.fureverhome.dto.ImageCacheStatsDTO;
+import com.fureverhome.dto.IndexReportDTO;
+import com.fureverhome.dto.SearchIndexStatsDTO;
+import com.fureverhome.dto.StatsPeriod;
+import com.fureverhome.service.AdminStatsService;
+import com.fureverhome.service.BlobCleanupService;
+import com.fureverhome.service.DatabaseIndexService;
+import com.fureverhome.service.DogImportService;
+import com.fureverhome.service.DogSearchService;
+import com.fureverhome.service.EngagementService;
+import com.fureverhome.service.ExportService;
+import com.fureverhome.service.FavoriteService;
+import com.fureverhome.storage.ImageCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminController {
+
+    private static final int DEFAULT_STATS_WINDOW_DAYS = 30;
+    private static final int MAX_STATS_WINDOW_DAYS = 365;
+    private static final int DEFAULT_ENGAGEMENT_HOURS = 24 * 7;
+    private static final int MAX_ENGAGEMENT_HOURS = 24 * 90;
+    private static final int DEFAULT_ENGAGEMENT_LIMIT = 20;
+    private static final int MAX_ENGAGEMENT_LIMIT = 100;
+
+    private final ImageCache imageCache;
+    private final DogSearchService dogSearchService;
+    private final DatabaseIndexService databaseIndexService;
+    private final FavoriteService favoriteService;
+    private final ExportService exportService;
+    private final DogImportService dogImportService;
+    private final AdminStatsService adminStatsService;
+    private final EngagementService engagementService;
+    private final BlobCleanupService blobCleanupService;
+
+    /**
+     * Dashboard counts: dogs by availability, requests by status, requests per day or week
+     * over the last {@code days} days, and the most common breeds. Cached briefly.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<AdminStatsDTO> getStats(@RequestParam(required = false) String period,
+                                                  @RequestParam(required = false) Integer days) {
+        int window = clamp(days, DEFAULT_STATS_WINDOW_DAYS, MAX_STATS_WINDOW_DAYS);
+        return ResponseEntity.ok(adminStatsService.getStats(StatsPeriod.fromParam(period), window));
+    }
+
+    /**
+     * Dogs with the most detail-page views over the last {@code hours} hours, with their
+     * favorites and adoption requests in the same window
+     */
+    @GetMapping("/engagement")
+    public ResponseEntity<List<DogEngagementDTO>> getTopEngagedDogs(@RequestParam(required = false) Integer hours,
+                                                                    @RequestParam(required = false) Integer limit) {
+        int window = clamp(hours, DEFAULT_ENGAGEMENT_HOURS, MAX_ENGAGEMENT_HOURS);
+        int size = clamp(limit, DEFAULT_ENGAGEMENT_LIMIT, MAX_ENGAGEMENT_LIMIT);
+        return ResponseEntity.ok(engagementService.getTopDogs(window, size));
+    }
+
+    /**
+     * Hourly views, favorites and adoption requests of one dog over the last {@code hours} hours
+     */
+    @GetMapping("/engagement/dogs/{id}")
+    public ResponseEntity<List<DogEngagementDTO>> getDogEngagement(@PathVariable Long id,
+                                                                   @RequestParam(required = false) Integer hours) {
+        return ResponseEntity.ok(engagementService.getDogHistory(id,
+                clamp(hours, DEFAULT_ENGAGEMENT_HOURS, MAX_ENGAGEMENT_HOURS)));
+    }
+
+    /**
+     * Hit ratio, resident bytes and eviction counts of the in-memory image cache
+     */
+    @GetMapping("/image-cache")
+    public ResponseEntity<ImageCacheStatsDTO> getImageCacheStats() {
+        return ResponseEntity.ok(imageCache.getStats());
+    }
+
+    /**
+     * Size, estimated memory footprint and query latency of the full-text search index
+     */
+    @GetMapping("/search-index")
+    public ResponseEntity<SearchIndexStatsDTO> getSearchIndexStats() {
+        return ResponseEntity.ok(dogSearchService.getIndexStats());
+    }
+
+    /**
+     * Expected indexes that are missing, and indexes never scanned since the last stats reset
+     */
+    @GetMapping("/db/indexes")
+    public ResponseEntity<IndexReportDTO> checkIndexes() {
+        return ResponseEntity.ok(databaseIndexService.checkIndexes());
+    }
+
+    /**
+     * Run the favorite counter reconciliation now; returns how many dogs were corrected
+     */
+    @PostMapping("/favorites/reconcile")
+    public ResponseEntity<Integer> reconcileFavoriteCounts() {
+        return ResponseEntity.ok(favoriteService.reconcileFavoriteCounts());
+    }
+
+    /**
+     * Run the unreferenced-blob sweep now; returns how many blobs were deleted
+     */
+    @PostMapping("/blobs/cleanup")
+    public ResponseEntity<Integer> deleteUnreferencedBlobs() {
+        return ResponseEntity.ok(blobCleanupService.deleteUnreferencedBlobs());
+    }
+
+    /**
+     * All dogs as NDJSON (default) or CSV, streamed while the rows are read
+     */
+    @GetMapping("/export/dogs")
+    public ResponseEntity<StreamingResponseBody> exportDogs(@RequestParam(required = false) String format) {
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        return exportResponse("dogs", exportFormat, out -> exportService.exportDogs(exportFormat, out));
+    }
+
+    /**
+     * All adoption requests as NDJSON (default) or CSV, streamed while the rows are read
+     */
+    @GetMapping("/export/adoption-requests")
+    public ResponseEntity<StreamingResponseBody> exportAdoptionRequests(@RequestParam(required = false) String format) {
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        return exportResponse("adoption-requests", exportFormat,
+                out -> exportService.exportAdoptionRequests(exportFormat, out));
+    }
+
+    /**
+     * Bulk-create dogs from a CSV (with header row) or NDJSON body. Valid rows are loaded in
+     * one COPY; the report lists every rejected row. Format comes from ?format= or Content-Type.
+     */
+    @PostMapping(value = "/import/dogs", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<DogImportReportDTO> importDogs(@RequestParam(required = false) String format,
+                                                         @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                         InputStream body) {
+        ExportFormat importFormat = format != null
+                ? ExportFormat.fromParam(format)
+                : contentType.toLowerCase().startsWith(ExportFormat.CSV.getContentType()) ? ExportFormat.CSV : ExportFormat.NDJSON;
+        return ResponseEntity.ok(dogImportService.importDogs(importFormat, body));
+    }
+
+    private static int clamp(Integer value, int defaultValue, int max) {
+        return value == null ? defaultValue : Math.max(1, Math.min(value, max));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> exportResponse(String name, ExportFormat format,
+                                                                        StreamingResponseBody body) {
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(name + "." + format.getExtension())
+                .build();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
+}
@@ -3,10 +3,12 @@ package com.fureverhome.controller;
 import com.fureverhome.dto.AdoptionRequestDTO;
 import com.fureverhome.dto.AdoptionResponse;
 import com.fureverhome.dto.AdoptionStatusUpdateDTO;
+import com.fureverhome.exception.ConflictException;
 import com.fureverhome.model.AdoptionRequest;
 import com.fureverhome.service.AdoptionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -23,6 +25,9 @@ public class AdoptionController {
 
     private final AdoptionService adoptionService;
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     @PostMapping
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
     public ResponseEntity<AdoptionRequest> createAdoptionRequest(@Valid @RequestBody AdoptionRequestDTO dto) {
@@ -34,24 +39,42 @@ public class AdoptionController {
         }
     }
 
+    /**
+     * Paginated (newest first) as soon as page or size is given; without them the full list
+     * is returned as before so existing clients keep working. Either way one statement.
+     */
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<AdoptionResponse>> getAllAdoptionRequests() {
-        List<AdoptionResponse> requests = adoptionService.getAllAdoptionRequests();
+    public ResponseEntity<?> getAllAdoptionRequests(@RequestParam(required = false) AdoptionRequest.Status status,
+                                                    @RequestParam(required = false) Integer page,
+                                                    @RequestParam(required = false) Integer size) {
+        if (page != null || size != null) {
+            return ResponseEntity.ok(adoptionService.getAdoptionRequestPage(status, pageNumber(page), pageSize(size)));
+        }
+        List<AdoptionResponse> requests = adoptionService.getAllAdoptionRequests(status);
         return ResponseEntity.ok(requests);
     }
 
     @GetMapping("/user/{userId}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<AdoptionResponse>> getUserAdoptionRequests(@PathVariable Long userId) {
-        List<AdoptionResponse> requests = adoptionService.getUserAdoptionRequests(userId);
+    public ResponseEntity<List<AdoptionResponse>> getUserAdoptionRequests(@PathVariable Long userId,
+                                                                          @RequestParam(required = false) AdoptionRequest.Status status) {
+        List<AdoptionResponse> requests = adoptionService.getUserAdoptionRequests(userId, status);
         return ResponseEntity.ok(requests);
     }
 
+    /**
+     * Same paging rules as the admin list
+     */
     @GetMapping("/my-requests")
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
-    public ResponseEntity<List<AdoptionResponse>> getCurrentUserRequests() {
-        List<AdoptionResponse> requests = adoptionService.getCurrentUserRequests();
+    public ResponseEntity<?> getCurrentUserRequests(@RequestParam(required = false) AdoptionRequest.Status status,
+                                                    @RequestParam(required = false) Integer page,
+                                                    @RequestParam(required = false) Integer size) {
+        if (page != null || size != null) {
+            return ResponseEntity.ok(adoptionService.getCurrentUserRequestPage(status, pageNumber(page), pageSize(size)));
+        }
+        List<AdoptionResponse> requests = adoptionService.getCurrentUserRequests(status);
         return ResponseEntity.ok(requests);
     }
 
@@ -74,6 +97,8 @@ public class AdoptionController {
         try {
             AdoptionResponse response = adoptionService.updateAdoptionStatus(id, dto);
             return ResponseEntity.ok(response);
+        } catch (ConflictException | OptimisticLockingFailureException e) {
+            throw e;  // 409 from GlobalExceptionHandler
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -91,6 +116,8 @@ public class AdoptionController {
 
             AdoptionResponse response = adoptionService.updateAdoptionStatus(id, dto);
             return ResponseEntity.ok(response);
+        } catch (ConflictException | OptimisticLockingFailureException e) {
+            throw e;  // 409 from GlobalExceptionHandler
         } catch (RuntimeException e) {
             System.err.println("Error updating adoption status: " + e.getMessage());
             e.printStackTrace();
@@ -117,4 +144,12 @@ public class AdoptionController {
             return ResponseEntity.notFound().build();
         }
     }
+
+    private static int pageNumber(Integer page) {
+        return page == null ? 0 : Math.max(0, page);
+    }
+
+    private static int pageSize(Integer size) {
+        return size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
 }
@@ -1,13 +1,19 @@
 package com.fureverhome.controller;
 
-import com.fureverhome.model.User;
-import com.fureverhome.repository.UserRepository;
+import com.fureverhome.model.UserAvatar;
+import com.fureverhome.repository.UserAvatarRepository;
+import com.fureverhome.storage.Blob;
+import com.fureverhome.storage.BlobResponseWriter;
+import com.fureverhome.storage.ImageCache;
+import com.fureverhome.storage.ImageUrls;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
 
 @RestController
 @RequestMapping("/avatars")
@@ -15,32 +21,68 @@ import org.springframework.web.bind.annotation.*;
 @CrossOrigin(origins = "http://localhost:4200")
 public class AvatarController {
 
-    private final UserRepository userRepository;
+    private final UserAvatarRepository userAvatarRepository;
+    private final ImageCache imageCache;
+    private final BlobResponseWriter blobResponseWriter;
 
     /**
-     * Get user avatar by user ID
+     * Get the current user avatar by user ID (always revalidated via ETag)
      */
     @GetMapping("/{userId}")
-    public ResponseEntity<byte[]> getAvatar(@PathVariable Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    public void getAvatar(@PathVariable Long userId,
+                          HttpServletRequest request,
+                          HttpServletResponse response) throws IOException {
+        UserAvatar avatar = userAvatarRepository.findById(userId).orElse(null);
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, DogImageController.REVALIDATE_CACHE_CONTROL);
+        serveAvatar(avatar, request, response);
+    }
+
+    /**
+     * Get a specific version of a user avatar, cached as immutable
+     */
+    @GetMapping("/{userId}/{version}")
+    public void getVersionedAvatar(@PathVariable Long userId,
+                                   @PathVariable Long version,
+                                   HttpServletRequest request,
+                                   HttpServletResponse response) throws IOException {
+        UserAvatar avatar = userAvatarRepository.findById(userId).orElse(null);
 
-        if (user.getAvatar() == null || user.getAvatar().length == 0) {
-            return ResponseEntity.notFound().build();
+        // Stale version: point the client at the current one
+        if (avatar != null && !avatar.getAvatarVersion().equals(version)) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, DogImageController.REVALIDATE_CACHE_CONTROL);
+            response.sendRedirect(ImageUrls.avatar(userId, avatar.getAvatarVersion()));
+            return;
         }
 
-        HttpHeaders headers = new HttpHeaders();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, DogImageController.IMMUTABLE_CACHE_CONTROL);
+        serveAvatar(avatar, request, response);
+    }
+
+    private void serveAvatar(UserAvatar avatar, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (avatar == null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, DogImageController.REVALIDATE_CACHE_CONTROL);
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        // Answer If-None-Match from the stored hash, before the blob is opened
+        if (new ServletWebRequest(request, response).checkNotModified(avatar.getSha256())) {
+            return;
+        }
+
+        Blob blob = imageCache.open(avatar.getSha256()).orElse(null);
+        if (blob == null) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
 
         // Set content type (default to image/png if not specified)
-        String contentType = user.getAvatarContentType() != null
-            ? user.getAvatarContentType()
+        String contentType = avatar.getContentType() != null
+            ? avatar.getContentType()
             : "image/png";
-        headers.setContentType(MediaType.parseMediaType(contentType));
-
-        // Enable caching
-        headers.setCacheControl("max-age=3600");
+        response.setContentType(contentType);
 
-        return new ResponseEntity<>(user.getAvatar(), headers, HttpStatus.OK);
+        blobResponseWriter.write(blob, request, response);
     }
 }
-
@@ -1,12 +1,26 @@
 package com.fureverhome.controller;
 
+import com.fureverhome.dto.DogPage;
 import com.fureverhome.dto.DogRequest;
+import com.fureverhome.dto.DogSearchCriteria;
+import com.fureverhome.dto.DogSort;
+import com.fureverhome.dto.DogSummary;
+import com.fureverhome.dto.SearchHitDTO;
+import com.fureverhome.dto.SuggestionDTO;
 import com.fureverhome.model.Dog;
-import com.fureverhome.repository.DogRepository;
+import com.fureverhome.search.SimilarDogIndex;
+import com.fureverhome.service.CatalogSnapshotService;
+import com.fureverhome.service.DogSearchService;
 import com.fureverhome.service.DogService;
+import com.fureverhome.service.EngagementService;
+import com.fureverhome.service.SimilarDogService;
+import com.fureverhome.service.TrendingService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -20,11 +34,42 @@ import java.util.List;
 public class DogController {
 
     private final DogService dogService;
-    private final DogRepository dogRepository;
+    private final DogSearchService dogSearchService;
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final TrendingService trendingService;
+    private final SimilarDogService similarDogService;
+    private final EngagementService engagementService;
 
+    private static final int DEFAULT_PAGE_SIZE = 24;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_TRENDING = 50;
+
+    /**
+     * Paginated as soon as any of limit, cursor or sort is given; without them the full
+     * list is returned as before so existing clients keep working.
+     */
     @GetMapping
-    public ResponseEntity<List<Dog>> getAllDogs(@RequestParam(required = false) Boolean available) {
-        List<Dog> dogs;
+    public ResponseEntity<?> getAllDogs(@RequestParam(required = false) Boolean available,
+                                        @RequestParam(required = false) Integer limit,
+                                        @RequestParam(required = false) String cursor,
+                                        @RequestParam(required = false) String sort,
+                                        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (limit != null || cursor != null || sort != null) {
+            // available=false means "don't filter", matching the legacy list behaviour
+            Boolean availableFilter = Boolean.TRUE.equals(available) ? Boolean.TRUE : null;
+            DogPage page = dogService.searchDogs(DogSearchCriteria.availableOnly(availableFilter),
+                    DogSort.fromParam(sort), cursor, pageSize(limit));
+            return ResponseEntity.ok(page);
+        }
+
+        if (Boolean.TRUE.equals(available)) {
+            CatalogSnapshotService.Snapshot snapshot = catalogSnapshotService.getSnapshot();
+            if (snapshot != null) {
+                return snapshotResponse(snapshot, acceptEncoding);
+            }
+        }
+
+        List<DogSummary> dogs;
         if (available != null && available) {
             dogs = dogService.getAvailableDogs();
         } else {
@@ -37,6 +82,7 @@ public class DogController {
     public ResponseEntity<Dog> getDogById(@PathVariable Long id) {
         try {
             Dog dog = dogService.getDogById(id);
+            engagementService.recordView(id);
             return ResponseEntity.ok(dog);
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
@@ -67,13 +113,12 @@ public class DogController {
 
             // If no image file but imageUrl provided, set it
             if ((image == null || image.isEmpty()) && imageUrl != null && !imageUrl.isEmpty()) {
-                dog.setImageUrl(imageUrl);
-                dog = dogRepository.save(dog); // Save again to persist imageUrl
+                dog = dogService.updateImageUrl(dog.getId(), imageUrl);
                 System.out.println("ImageUrl saved: " + imageUrl);
             }
 
             System.out.println("Dog created successfully with ID: " + dog.getId());
-            System.out.println("Dog has image data: " + (dog.getImage() != null && dog.getImage().length > 0));
+            System.out.println("Dog has image data: " + dog.hasImage());
 
             return ResponseEntity.status(HttpStatus.CREATED).body(dog);
         } catch (Exception e) {
@@ -108,13 +153,12 @@ public class DogController {
 
             // If no image file but imageUrl provided, set it
             if ((image == null || image.isEmpty()) && imageUrl != null && !imageUrl.isEmpty()) {
-                dog.setImageUrl(imageUrl);
-                dog = dogRepository.save(dog); // Save again to persist imageUrl
+                dog = dogService.updateImageUrl(dog.getId(), imageUrl);
                 System.out.println("ImageUrl saved: " + imageUrl);
             }
 
             System.out.println("Dog updated successfully");
-            System.out.println("Dog has image data: " + (dog.getImage() != null && dog.getImage().length > 0));
+            System.out.println("Dog has image data: " + dog.hasImage());
 
             return ResponseEntity.ok(dog);
         } catch (RuntimeException e) {
@@ -135,10 +179,82 @@ public class DogController {
         }
     }
 
+    /**
+     * Multi-criteria search, always paginated. Breed is a case-insensitive prefix match;
+     * every filter is optional and combined with AND.
+     */
     @GetMapping("/search")
-    public ResponseEntity<List<Dog>> searchDogsByBreed(@RequestParam String breed) {
-        List<Dog> dogs = dogService.searchByBreed(breed);
-        return ResponseEntity.ok(dogs);
+    public ResponseEntity<DogPage> searchDogs(@RequestParam(required = false) String breed,
+                                              @RequestParam(required = false) Integer minAge,
+                                              @RequestParam(required = false) Integer maxAge,
+                                              @RequestParam(required = false) Dog.Gender gender,
+                                              @RequestParam(required = false) String healthStatus,
+                                              @RequestParam(required = false) Boolean available,
+                                              @RequestParam(required = false) Integer limit,
+                                              @RequestParam(required = false) String cursor,
+                                              @RequestParam(required = false) String sort) {
+        DogSearchCriteria criteria = new DogSearchCriteria(breed, minAge, maxAge, gender, healthStatus, available);
+        DogPage page = dogService.searchDogs(criteria, DogSort.fromParam(sort), cursor, pageSize(limit));
+        return ResponseEntity.ok(page);
     }
-}
 
+    /**
+     * Ranked free-text search over names, breeds and descriptions, answered from memory
+     */
+    @GetMapping("/search/text")
+    public ResponseEntity<List<SearchHitDTO>> searchDogsByText(@RequestParam String q,
+                                                               @RequestParam(required = false) Integer limit,
+                                                               @RequestParam(required = false) Boolean available) {
+        List<SearchHitDTO> hits = dogSearchService.search(q, pageSize(limit), Boolean.TRUE.equals(available));
+        return ResponseEntity.ok(hits);
+    }
+
+    /**
+     * Typeahead over breeds and names, weighted by how many available dogs match
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionDTO>> suggest(@RequestParam String q,
+                                                       @RequestParam(required = false, defaultValue = "8") int limit) {
+        return ResponseEntity.ok(dogSearchService.suggest(q, Math.max(1, limit)));
+    }
+
+    /**
+     * Available dogs with the most recent favorites and adoption requests, best first
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<List<DogSummary>> getTrendingDogs(@RequestParam(required = false, defaultValue = "10") int limit) {
+        return ResponseEntity.ok(trendingService.getTrendingDogs(Math.min(Math.max(1, limit), MAX_TRENDING)));
+    }
+
+    /**
+     * "You may also like": available dogs most similar to this one, from the precomputed table
+     */
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<List<DogSummary>> getSimilarDogs(@PathVariable Long id,
+                                                           @RequestParam(required = false, defaultValue = "6") int limit) {
+        return ResponseEntity.ok(similarDogService.getSimilarDogs(id, Math.min(Math.max(1, limit), SimilarDogIndex.MAX_NEIGHBORS)));
+    }
+
+    /**
+     * Write the pre-serialized catalog. With ETag and Last-Modified set on the ResponseEntity,
+     * Spring answers matching If-None-Match / If-Modified-Since requests with 304 itself.
+     */
+    private static ResponseEntity<byte[]> snapshotResponse(CatalogSnapshotService.Snapshot snapshot, String acceptEncoding) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                // Each encoding is a distinct representation, so it gets its own strong ETag
+                .eTag("\"" + snapshot.getEtag() + (gzip ? "-gzip" : "") + "\"")
+                .lastModified(snapshot.getLastModified())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.getGzip());
+        }
+        return response.body(snapshot.getJson());
+    }
+
+    private static int pageSize(Integer limit) {
+        return limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+}
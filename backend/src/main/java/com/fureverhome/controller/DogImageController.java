@@ -1,13 +1,25 @@
 package com.fureverhome.controller;
 
 import com.fureverhome.model.Dog;
-import com.fureverhome.repository.DogRepository;
+import com.fureverhome.model.DogImage;
+import com.fureverhome.model.DogImageVariant;
+import com.fureverhome.repository.DogImageRepository;
+import com.fureverhome.repository.DogImageVariantRepository;
+import com.fureverhome.service.DogService;
+import com.fureverhome.storage.Blob;
+import com.fureverhome.storage.BlobResponseWriter;
+import com.fureverhome.storage.ImageCache;
+import com.fureverhome.storage.ImageUrls;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
 
 @RestController
 @RequestMapping("/dogs")
@@ -15,32 +27,140 @@ import org.springframework.web.bind.annotation.*;
 @CrossOrigin(origins = "http://localhost:4200")
 public class DogImageController {
 
-    private final DogRepository dogRepository;
+    static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+    static final String REVALIDATE_CACHE_CONTROL = "no-cache";
+
+    private final DogImageRepository dogImageRepository;
+    private final DogImageVariantRepository dogImageVariantRepository;
+    private final ImageCache imageCache;
+    private final BlobResponseWriter blobResponseWriter;
+    private final DogService dogService;
 
     /**
-     * Get dog image by dog ID
+     * Get the current dog image by dog ID (always revalidated via ETag).
+     * Optional size: thumbnail, card or detail; without it the full-size variant is served.
      */
     @GetMapping("/{dogId}/image")
-    public ResponseEntity<byte[]> getDogImage(@PathVariable Long dogId) {
-        Dog dog = dogRepository.findById(dogId)
-                .orElseThrow(() -> new RuntimeException("Dog not found"));
+    public void getDogImage(@PathVariable Long dogId,
+                            @RequestParam(value = "size", required = false) String size,
+                            HttpServletRequest request,
+                            HttpServletResponse response) throws IOException {
+        DogImageVariant.Variant variant;
+        try {
+            variant = parseSize(size);
+        } catch (IllegalArgumentException e) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+
+        DogImage image = dogImageRepository.findById(dogId).orElse(null);
+        if (image == null) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE_CACHE_CONTROL);
+        serveImage(image, variant, request, response);
+    }
+
+    /**
+     * Get a specific version of a dog image. The hash in the path is the content sha-256,
+     * so the response never changes and is cached as immutable.
+     */
+    @GetMapping("/{dogId}/image/{hash}")
+    public void getVersionedDogImage(@PathVariable Long dogId,
+                                     @PathVariable String hash,
+                                     @RequestParam(value = "size", required = false) String size,
+                                     HttpServletRequest request,
+                                     HttpServletResponse response) throws IOException {
+        DogImageVariant.Variant variant;
+        try {
+            variant = parseSize(size);
+        } catch (IllegalArgumentException e) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+
+        // The ETag derives from the hash in the path, so a revalidation needs no lookup at all
+        response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE_CACHE_CONTROL);
+        if (new ServletWebRequest(request, response).checkNotModified(etagFor(hash, variant))) {
+            return;
+        }
+
+        DogImage image = dogImageRepository.findById(dogId).orElse(null);
+        if (image == null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE_CACHE_CONTROL);
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
 
-        if (dog.getImage() == null || dog.getImage().length == 0) {
-            return ResponseEntity.notFound().build();
+        // Stale version: point the client at the current one
+        if (!image.getSha256().equals(hash)) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE_CACHE_CONTROL);
+            String location = ImageUrls.dogImage(dogId, image.getSha256());
+            response.sendRedirect(variant != null ? location + "?size=" + size : location);
+            return;
         }
 
-        HttpHeaders headers = new HttpHeaders();
+        serveImage(image, variant, request, response);
+    }
+
+    /**
+     * Upload a dog image as the raw request body. The stream is piped into storage
+     * as it arrives, so heap use does not grow with the file size.
+     */
+    @PutMapping(value = "/{dogId}/image", consumes = {"image/*", "application/octet-stream"})
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Dog> uploadDogImage(@PathVariable Long dogId,
+                                              HttpServletRequest request) throws IOException {
+        try {
+            return ResponseEntity.ok(dogService.replaceImage(dogId, request.getInputStream()));
+        } catch (RuntimeException e) {
+            System.err.println("Error uploading dog image: " + e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    private void serveImage(DogImage image,
+                            DogImageVariant.Variant variant,
+                            HttpServletRequest request,
+                            HttpServletResponse response) throws IOException {
+        // Answer If-None-Match from metadata alone, before the blob is opened
+        if (new ServletWebRequest(request, response).checkNotModified(etagFor(image.getSha256(), variant))) {
+            return;
+        }
+
+        // The uploaded original may carry EXIF (GPS and all), so only re-encoded variants are served
+        DogImageVariant resized = dogImageVariantRepository
+                .findByDogIdAndVariant(image.getDogId(), variant != null ? variant : DogImageVariant.Variant.FULL)
+                .orElse(null);
+        if (resized == null) {
+            // Not generated yet (or the image could not be decoded)
+            response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE_CACHE_CONTROL);
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        String sha256 = resized.getSha256();
+        String contentType = resized.getContentType();
+
+        Blob blob = imageCache.open(sha256).orElse(null);
+        if (blob == null) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
 
         // Set content type (default to image/png if not specified)
-        String contentType = dog.getImageContentType() != null
-            ? dog.getImageContentType()
-            : "image/png";
-        headers.setContentType(MediaType.parseMediaType(contentType));
+        response.setContentType(contentType != null ? contentType : "image/png");
 
-        // Enable caching
-        headers.setCacheControl("max-age=3600");
+        blobResponseWriter.write(blob, request, response);
+    }
 
-        return new ResponseEntity<>(dog.getImage(), headers, HttpStatus.OK);
+    private static DogImageVariant.Variant parseSize(String size) {
+        return size == null || size.isBlank() ? null : DogImageVariant.Variant.fromParam(size);
     }
-}
 
+    private static String etagFor(String sha256, DogImageVariant.Variant variant) {
+        DogImageVariant.Variant served = variant != null ? variant : DogImageVariant.Variant.FULL;
+        return sha256 + "-" + served.name().toLowerCase();
+    }
+}
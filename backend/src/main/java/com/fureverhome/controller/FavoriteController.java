@@ -1,5 +1,6 @@
 package com.fureverhome.controller;
 
+import com.fureverhome.dto.DogSummary;
 import com.fureverhome.model.Favorite;
 import com.fureverhome.service.FavoriteService;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +11,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/favorites")
@@ -19,6 +21,8 @@ public class FavoriteController {
     private final FavoriteService favoriteService;
     private final com.fureverhome.repository.UserRepository userRepository;
 
+    private static final int MAX_COUNT_IDS = 200;
+
     /**
      * Get current user's favorite dog IDs
      */
@@ -29,6 +33,15 @@ public class FavoriteController {
         return ResponseEntity.ok(favoriteDogIds);
     }
 
+    /**
+     * Get current user's favorite dogs (card summaries, for the favorites page)
+     */
+    @GetMapping("/dogs")
+    public ResponseEntity<List<DogSummary>> getUserFavoriteDogs(Authentication authentication) {
+        Long userId = getUserIdFromAuthentication(authentication);
+        return ResponseEntity.ok(favoriteService.getUserFavoriteDogs(userId));
+    }
+
     /**
      * Add a dog to favorites
      */
@@ -85,6 +98,17 @@ public class FavoriteController {
         return ResponseEntity.ok(count);
     }
 
+    /**
+     * Get favorite counts for several dogs in one call, e.g. ?dogIds=1,2,3
+     */
+    @GetMapping("/counts")
+    public ResponseEntity<Map<Long, Long>> getFavoriteCounts(@RequestParam List<Long> dogIds) {
+        if (dogIds.size() > MAX_COUNT_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_COUNT_IDS + " dog ids per request");
+        }
+        return ResponseEntity.ok(favoriteService.getFavoriteCounts(dogIds));
+    }
+
     /**
      * Helper method to extract user ID from authentication
      */
@@ -4,6 +4,7 @@ import com.fureverhome.dto.PasswordUpdateRequest;
 import com.fureverhome.dto.UserProfileDTO;
 import com.fureverhome.dto.UserProfileUpdateRequest;
 import com.fureverhome.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -12,6 +13,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -63,6 +65,19 @@ public class UserController {
         }
     }
 
+    /**
+     * Replace the avatar with the raw request body (streamed, never buffered in memory)
+     */
+    @PutMapping(value = "/profile/avatar", consumes = {"image/*", "application/octet-stream"})
+    public ResponseEntity<UserProfileDTO> updateAvatar(
+            Authentication authentication,
+            HttpServletRequest request) throws IOException {
+
+        String email = getUserEmailFromAuthentication(authentication);
+        UserProfileDTO updatedProfile = userService.updateAvatar(email, request.getInputStream());
+        return ResponseEntity.ok(updatedProfile);
+    }
+
     /**
      * Update user password
      */
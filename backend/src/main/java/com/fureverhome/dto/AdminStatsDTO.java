@@ -0,0 +1,40 @@
+package com.fureverhome.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminStatsDTO {
+    private long totalDogs;
+    private long availableDogs;
+    private long adoptedDogs;
+    private Map<String, Long> requestsByStatus;  // every status, zero when there are none
+    private StatsPeriod period;
+    private List<PeriodCount> requests;          // requests created per period, oldest first, gaps filled
+    private List<BreedCount> topBreeds;
+    private LocalDateTime generatedAt;           // may be up to admin.stats.cache-ttl old
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PeriodCount {
+        private LocalDate start;
+        private long count;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BreedCount {
+        private String breed;
+        private long dogs;
+    }
+}
@@ -0,0 +1,51 @@
+package com.fureverhome.dto;
+
+import com.fureverhome.model.AdoptionRequest;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One adoption request in the admin export, with its dog and user flattened in. Built by
+ * a JPQL constructor expression, so streamed rows never enter the persistence context.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdoptionExportRow implements ExportRow {
+
+    public static final List<String> COLUMNS = List.of("id", "status", "dogId", "dogName",
+            "dogBreed", "userId", "username", "userEmail", "fullName", "email", "phone", "address",
+            "occupation", "householdMembers", "hasOtherPets", "petExperience", "message",
+            "createdAt", "updatedAt");
+
+    private Long id;
+    private AdoptionRequest.Status status;
+    private Long dogId;
+    private String dogName;
+    private String dogBreed;
+    private Long userId;
+    private String username;
+    private String userEmail;
+    private String fullName;
+    private String email;
+    private String phone;
+    private String address;
+    private String occupation;
+    private Integer householdMembers;
+    private Boolean hasOtherPets;
+    private String petExperience;
+    private String message;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    @Override
+    public Object[] values() {
+        return new Object[] {id, status, dogId, dogName, dogBreed, userId, username, userEmail,
+                fullName, email, phone, address, occupation, householdMembers, hasOtherPets,
+                petExperience, message, createdAt, updatedAt};
+    }
+}
@@ -0,0 +1,17 @@
+package com.fureverhome.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdoptionPage {
+    private List<AdoptionResponse> items;
+    private int page;           // 0-based
+    private int size;
+    private long totalElements;
+}
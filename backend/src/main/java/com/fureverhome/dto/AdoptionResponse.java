@@ -1,6 +1,7 @@
 package com.fureverhome.dto;
 
 import com.fureverhome.model.AdoptionRequest;
+import com.fureverhome.storage.ImageUrls;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -36,6 +37,43 @@ public class AdoptionResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    /**
+     * Target of the single-statement JPQL constructor expression in AdoptionRequestRepository;
+     * keep the parameter order in sync with RESPONSE_SELECT.
+     */
+    public AdoptionResponse(Long id, Long dogId, String dogName, String dogBreed, Boolean dogHasImage,
+                            String dogImageSha256, String dogImageUrl, Long userId, String username,
+                            String userEmail, AdoptionRequest.Status status, String message, String fullName,
+                            String email, String phone, String address, String occupation,
+                            Integer householdMembers, Boolean hasOtherPets, String petExperience,
+                            LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.dogId = dogId;
+        this.dogName = dogName;
+        this.dogBreed = dogBreed;
+        if (Boolean.TRUE.equals(dogHasImage) && dogImageSha256 != null) {
+            this.dogImageUrl = ImageUrls.dogImage(dogId, dogImageSha256);
+        } else if (dogImageUrl != null && !dogImageUrl.isEmpty()) {
+            this.dogImageUrl = dogImageUrl;
+        }
+        this.userId = userId;
+        this.username = username;
+        this.userEmail = userEmail;
+        this.status = status.name();
+        this.message = message;
+        this.reason = message != null ? message : petExperience;
+        this.fullName = fullName;
+        this.email = email;
+        this.phone = phone;
+        this.address = address;
+        this.occupation = occupation;
+        this.householdMembers = householdMembers;
+        this.hasOtherPets = hasOtherPets;
+        this.petExperience = petExperience;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
     public static AdoptionResponse fromEntity(AdoptionRequest request) {
         AdoptionResponse response = new AdoptionResponse();
         response.setId(request.getId());
@@ -44,8 +82,8 @@ public class AdoptionResponse {
         response.setDogBreed(request.getDog().getBreed());
         
         // Set dog image URL - prioritize binary image over imageUrl field
-        if (request.getDog().hasImage()) {
-            response.setDogImageUrl("/api/dogs/" + request.getDog().getId() + "/image");
+        if (request.getDog().getImagePath() != null) {
+            response.setDogImageUrl(request.getDog().getImagePath());
         } else if (request.getDog().getImageUrl() != null && !request.getDog().getImageUrl().isEmpty()) {
             response.setDogImageUrl(request.getDog().getImageUrl());
         }
@@ -0,0 +1,65 @@
+package com.fureverhome.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Position in the dog catalog: the sort key and id of the last row of the previous page.
+ * Encoded as an opaque url-safe string so clients just echo it back.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DogCursor {
+    private DogSort sort;
+    private String key;
+    private Long id;
+
+    public static DogCursor after(DogSort sort, LocalDateTime createdAt, String name, Integer age, Long id) {
+        String key = switch (sort) {
+            case NEWEST -> createdAt.toString();
+            case NAME -> name;
+            case AGE -> String.valueOf(age);
+        };
+        return new DogCursor(sort, key, id);
+    }
+
+    public String encode() {
+        String raw = sort.name() + "|" + id + "|" + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor produced by {@link #encode()}; it must belong to the requested sort
+     */
+    public static DogCursor decode(String value, DogSort expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            DogSort sort = DogSort.valueOf(parts[0]);
+            if (sort != expectedSort) {
+                throw new IllegalArgumentException("Cursor was issued for sort " + sort);
+            }
+            DogCursor cursor = new DogCursor(sort, parts[2], Long.parseLong(parts[1]));
+            // Validate the key eagerly so a bad cursor fails as a bad request, not in the query
+            cursor.createdAtKey();
+            cursor.ageKey();
+            return cursor;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    public LocalDateTime createdAtKey() {
+        return sort == DogSort.NEWEST ? LocalDateTime.parse(key) : null;
+    }
+
+    public Integer ageKey() {
+        return sort == DogSort.AGE ? Integer.valueOf(key) : null;
+    }
+}
@@ -0,0 +1,22 @@
+package com.fureverhome.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Engagement totals of one dog over a window, or of one dog in one hour
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DogEngagementDTO {
+    private Long dogId;
+    private String name;
+    private LocalDateTime hour;  // start of the hour; null for window totals
+    private long views;
+    private long favorites;
+    private long adoptionRequests;
+}
@@ -0,0 +1,43 @@
+package com.fureverhome.dto;
+
+import com.fureverhome.model.Dog;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One dog in the admin export. Built by a JPQL constructor expression, so streamed rows
+ * never enter the persistence context.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DogExportRow implements ExportRow {
+
+    public static final List<String> COLUMNS = List.of("id", "name", "breed", "age", "gender",
+            "healthStatus", "description", "imageUrl", "hasImage", "available", "favoriteCount",
+            "createdAt", "updatedAt");
+
+    private Long id;
+    private String name;
+    private String breed;
+    private Integer age;
+    private Dog.Gender gender;
+    private String healthStatus;
+    private String description;
+    private String imageUrl;
+    private Boolean hasImage;
+    private Boolean available;
+    private Long favoriteCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    @Override
+    public Object[] values() {
+        return new Object[] {id, name, breed, age, gender, healthStatus, description, imageUrl,
+                hasImage, available, favoriteCount, createdAt, updatedAt};
+    }
+}
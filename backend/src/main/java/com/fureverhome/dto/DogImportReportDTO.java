@@ -0,0 +1,27 @@
+package com.fureverhome.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DogImportReportDTO {
+    private long rowsRead;
+    private long imported;
+    private long rejected;
+    private List<RowError> errors = new ArrayList<>();
+    private boolean errorsTruncated; // more rows were rejected than are listed
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long row;       // 1-based data row, header excluded
+        private String message;
+    }
+}
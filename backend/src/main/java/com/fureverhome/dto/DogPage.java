@@ -0,0 +1,15 @@
+package com.fureverhome.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DogPage {
+    private List<DogSummary> items;
+    private String nextCursor; // null on the last page
+}
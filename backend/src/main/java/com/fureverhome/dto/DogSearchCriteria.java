@@ -0,0 +1,27 @@
+package com.fureverhome.dto;
+
+import com.fureverhome.model.Dog;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Filters for the dog search API. Null fields are not filtered on.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DogSearchCriteria {
+    private String breed;        // case-insensitive prefix
+    private Integer minAge;
+    private Integer maxAge;
+    private Dog.Gender gender;
+    private String healthStatus; // exact match
+    private Boolean available;
+
+    public static DogSearchCriteria availableOnly(Boolean available) {
+        DogSearchCriteria criteria = new DogSearchCriteria();
+        criteria.setAvailable(available);
+        return criteria;
+    }
+}
@@ -0,0 +1,26 @@
+package com.fureverhome.dto;
+
+/**
+ * Orderings supported by the paginated dog catalog. Every ordering ends with the dog id
+ * so the sort key is unique and a keyset cursor can resume exactly after the last row.
+ */
+public enum DogSort {
+    NEWEST,  // created_at DESC, id DESC
+    NAME,    // name ASC, id ASC
+    AGE;     // age ASC, id ASC
+
+    /**
+     * Parse the {@code sort} request parameter (case-insensitive, defaults to NEWEST)
+     */
+    public static DogSort fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return NEWEST;
+        }
+        for (DogSort sort : values()) {
+            if (sort.name().equalsIgnoreCase(value)) {
+                return sort;
+            }
+        }
+        throw new IllegalArgumentException("Unknown sort: " + value);
+    }
+}
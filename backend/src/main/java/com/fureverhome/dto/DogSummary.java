@@ -0,0 +1,45 @@
+package com.fureverhome.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fureverhome.model.Dog;
+import com.fureverhome.storage.ImageUrls;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Card-sized view of a dog for list endpoints, selected column by column in SQL.
+ * The description is cut to {@link #DESCRIPTION_EXCERPT_LENGTH} characters by the database;
+ * the full entity is only served by GET /dogs/{id}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DogSummary {
+    public static final int DESCRIPTION_EXCERPT_LENGTH = 160;
+
+    private Long id;
+    private String name;
+    private String breed;
+    private Integer age;
+    private Dog.Gender gender;
+    private String healthStatus;
+    private String description;
+    private String imageUrl;
+    private Boolean hasImage;
+
+    @JsonIgnore
+    private String imageSha256;
+
+    private Boolean available;
+
+    // Only needed to build the keyset cursor for the newest-first ordering
+    @JsonIgnore
+    private LocalDateTime createdAt;
+
+    public String getImagePath() {
+        return Boolean.TRUE.equals(hasImage) && imageSha256 != null ? ImageUrls.dogImage(id, imageSha256) : null;
+    }
+}
@@ -0,0 +1,36 @@
+package com.fureverhome.dto;
+
+import lombok.Getter;
+
+/**
+ * Wire formats of the streaming admin exports and the bulk dog import. Both are read and
+ * written one row at a time.
+ */
+@Getter
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),  // one JSON object per line
+    CSV("text/csv", "csv");                    // RFC 4180, header row first
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    /**
+     * Parse the {@code format} request parameter (case-insensitive, defaults to NDJSON)
+     */
+    public static ExportFormat fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return NDJSON;
+        }
+        for (ExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unknown export format: " + value);
+    }
+}
@@ -0,0 +1,8 @@
+package com.fureverhome.dto;
+
+/**
+ * A flat export record; {@link #values()} lines up with the row type's column list
+ */
+public interface ExportRow {
+    Object[] values();
+}
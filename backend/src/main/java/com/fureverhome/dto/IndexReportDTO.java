@@ -0,0 +1,26 @@
+package com.fureverhome.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IndexReportDTO {
+    private List<String> missingIndexes;
+    private List<UnusedIndex> unusedIndexes;
+    private OffsetDateTime statsSince; // scan counts are cumulative since this reset
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UnusedIndex {
+        private String table;
+        private String index;
+        private long sizeBytes;
+    }
+}
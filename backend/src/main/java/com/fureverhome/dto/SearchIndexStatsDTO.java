@@ -0,0 +1,20 @@
+package com.fureverhome.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchIndexStatsDTO {
+    private int documents;
+    private int terms;
+    private long postings;
+    private long estimatedBytes;
+    private long queries;
+    private double averageQueryMicros;
+    private long lastRebuildMillis;
+    private int suggestionNodes;
+    private long suggestionEstimatedBytes;
+}
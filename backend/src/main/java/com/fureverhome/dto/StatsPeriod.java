@@ -0,0 +1,24 @@
+package com.fureverhome.dto;
+
+/**
+ * Bucket size of the request timeline on the admin dashboard
+ */
+public enum StatsPeriod {
+    DAY,
+    WEEK;   // ISO weeks, starting Monday
+
+    /**
+     * Parse the {@code period} request parameter (case-insensitive, defaults to DAY)
+     */
+    public static StatsPeriod fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return DAY;
+        }
+        for (StatsPeriod period : values()) {
+            if (period.name().equalsIgnoreCase(value)) {
+                return period;
+            }
+        }
+        throw new IllegalArgumentException("Unknown stats period: " + value);
+    }
+}
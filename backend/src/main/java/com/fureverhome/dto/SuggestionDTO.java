@@ -0,0 +1,19 @@
+package com.fureverhome.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestionDTO {
+    private String text;
+    private Type type;
+    private int availableDogs;
+
+    public enum Type {
+        BREED,
+        NAME
+    }
+}
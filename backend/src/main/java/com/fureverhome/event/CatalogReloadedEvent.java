@@ -0,0 +1,14 @@
+package com.fureverhome.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Many dogs changed at once (bulk import). In-memory read models rebuild from the
+ * database once instead of applying one DogChangedEvent per row.
+ */
+@Data
+@AllArgsConstructor
+public class CatalogReloadedEvent {
+    private long changedDogs;
+}
@@ -0,0 +1,28 @@
+package com.fureverhome.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Published by the dog write paths so in-memory read models (search index, suggestions)
+ * can update themselves once the transaction commits.
+ */
+@Data
+@AllArgsConstructor
+public class DogChangedEvent {
+    private Long dogId;
+    private Type type;
+
+    public enum Type {
+        SAVED,
+        DELETED
+    }
+
+    public static DogChangedEvent saved(Long dogId) {
+        return new DogChangedEvent(dogId, Type.SAVED);
+    }
+
+    public static DogChangedEvent deleted(Long dogId) {
+        return new DogChangedEvent(dogId, Type.DELETED);
+    }
+}
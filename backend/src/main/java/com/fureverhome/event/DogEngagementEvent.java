@@ -0,0 +1,26 @@
+package com.fureverhome.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * An adopter showed interest in a dog. Feeds the trending ranking once the transaction commits.
+ */
+@Data
+@AllArgsConstructor
+public class DogEngagementEvent {
+    private Long dogId;
+    private Type type;
+    private Instant occurredAt;
+
+    public enum Type {
+        FAVORITED,
+        ADOPTION_REQUESTED
+    }
+
+    public static DogEngagementEvent of(Long dogId, Type type) {
+        return new DogEngagementEvent(dogId, type, Instant.now());
+    }
+}
@@ -0,0 +1,15 @@
+package com.fureverhome.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Published when a dog's photo is replaced, so its resized variants are generated once
+ * the upload has committed.
+ */
+@Data
+@AllArgsConstructor
+public class DogImageStoredEvent {
+    private Long dogId;
+    private String sha256;
+}
@@ -0,0 +1,15 @@
+package com.fureverhome.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * A user added or removed a favorite. Keeps co-favorite signals in memory current.
+ */
+@Data
+@AllArgsConstructor
+public class FavoriteChangedEvent {
+    private Long userId;
+    private Long dogId;
+    private boolean added;
+}
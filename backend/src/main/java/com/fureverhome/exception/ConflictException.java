@@ -0,0 +1,11 @@
+package com.fureverhome.exception;
+
+/**
+ * The change lost a race with another one (the dog was already adopted, the request was
+ * edited meanwhile, ...). Mapped to 409 so the client can reload and decide again.
+ */
+public class ConflictException extends RuntimeException {
+    public ConflictException(String message) {
+        super(message);
+    }
+}
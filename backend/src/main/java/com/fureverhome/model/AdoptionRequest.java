@@ -56,6 +56,11 @@ public class AdoptionRequest {
     @Column(name = "pet_experience", columnDefinition = "TEXT")
     private String petExperience;
 
+    // Optimistic lock: concurrent edits of the same row fail instead of overwriting each other
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false, name = "created_at")
     private LocalDateTime createdAt;
@@ -1,7 +1,7 @@
 package com.fureverhome.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
-import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fureverhome.storage.ImageUrls;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -43,16 +43,34 @@ public class Dog {
     @Column(length = 255, name = "image_url")
     private String imageUrl;
 
-    @JsonIgnore // Don't serialize the actual binary data in JSON responses
-    @Column(name = "image", columnDefinition = "BYTEA")
-    private byte[] image;
+    // Image bytes live in dog_images (see DogImage); only metadata is kept on the dog row
+    @Column(name = "has_image", nullable = false, columnDefinition = "BOOLEAN DEFAULT FALSE")
+    private Boolean hasImage = false;
 
     @Column(name = "image_content_type", length = 100)
     private String imageContentType;
 
+    @JsonIgnore
+    @Column(name = "image_size")
+    private Long imageSize;
+
+    @JsonIgnore
+    @Column(name = "image_sha256", length = 64)
+    private String imageSha256;
+
     @Column(nullable = false)
     private Boolean available = true;
 
+    // Maintained by atomic SQL increments in FavoriteService, never written from the entity
+    @Column(name = "favorite_count", nullable = false, insertable = false, updatable = false)
+    private Long favoriteCount = 0L;
+
+    // Optimistic lock: concurrent edits of the same row fail instead of overwriting each other
+    @JsonIgnore
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false, name = "created_at")
     private LocalDateTime createdAt;
@@ -61,10 +79,13 @@ public class Dog {
     @Column(nullable = false, name = "updated_at")
     private LocalDateTime updatedAt;
 
-    // Computed property to indicate if image exists (without sending binary data)
-    @JsonProperty("hasImage")
     public boolean hasImage() {
-        return image != null && image.length > 0;
+        return Boolean.TRUE.equals(hasImage);
+    }
+
+    // Versioned image URL (changes with the image content, so it can be cached as immutable)
+    public String getImagePath() {
+        return hasImage() && imageSha256 != null ? ImageUrls.dogImage(id, imageSha256) : null;
     }
 
     public enum Gender {
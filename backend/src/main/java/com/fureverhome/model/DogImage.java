@@ -0,0 +1,43 @@
+package com.fureverhome.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Metadata of a dog's photo. The bytes live in the BlobStore under {@code sha256}.
+ */
+@Entity
+@Table(name = "dog_images")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DogImage {
+    @Id
+    @Column(name = "dog_id")
+    private Long dogId;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(nullable = false)
+    private Long size;
+
+    @Column(nullable = false, length = 64)
+    private String sha256;
+
+    /** Set when variants could not be generated from this image; cleared by a new upload */
+    @Column(name = "variants_failed_at")
+    private LocalDateTime variantsFailedAt;
+
+    @Column(name = "variants_error", length = 500)
+    private String variantsError;
+
+    @UpdateTimestamp
+    @Column(nullable = false, name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,75 @@
+package com.fureverhome.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resized, metadata-free copy of a dog's photo, generated after the upload commits.
+ * The bytes live in the BlobStore under {@code sha256}.
+ */
+@Entity
+@Table(name = "dog_image_variants", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"dog_id", "variant"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DogImageVariant {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "dog_id", nullable = false)
+    private Long dogId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Variant variant;
+
+    @Column(nullable = false, length = 64)
+    private String sha256;
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    @Column(nullable = false)
+    private Long size;
+
+    @Column(nullable = false)
+    private Integer width;
+
+    @Column(nullable = false)
+    private Integer height;
+
+    public enum Variant {
+        /** Served when no size is requested, so the uploaded original (and its EXIF) never is */
+        FULL(2400),
+        THUMBNAIL(160),
+        CARD(480),
+        DETAIL(1200);
+
+        private final int maxEdge;
+
+        Variant(int maxEdge) {
+            this.maxEdge = maxEdge;
+        }
+
+        public int getMaxEdge() {
+            return maxEdge;
+        }
+
+        /**
+         * Parse the {@code size} request parameter (case-insensitive)
+         */
+        public static Variant fromParam(String value) {
+            for (Variant variant : values()) {
+                if (variant.name().equalsIgnoreCase(value)) {
+                    return variant;
+                }
+            }
+            throw new IllegalArgumentException("Unknown image size: " + value);
+        }
+    }
+}
@@ -43,11 +43,12 @@ public class User {
     @Column(name = "address", length = 500)
     private String address;
 
-    @Column(name = "avatar", columnDefinition = "BYTEA")
-    private byte[] avatar;
+    // Avatar metadata lives in user_avatars (see UserAvatar); only a flag and version are kept here
+    @Column(name = "has_avatar", nullable = false, columnDefinition = "BOOLEAN DEFAULT FALSE")
+    private Boolean hasAvatar = false;
 
-    @Column(name = "avatar_content_type", length = 50)
-    private String avatarContentType;
+    @Column(name = "avatar_version", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long avatarVersion = 0L;
 
     @CreationTimestamp
     @Column(nullable = false, updatable = false, name = "created_at")
@@ -57,5 +58,8 @@ public class User {
         USER,
         ADMIN
     }
-}
 
+    public boolean hasAvatar() {
+        return Boolean.TRUE.equals(hasAvatar);
+    }
+}
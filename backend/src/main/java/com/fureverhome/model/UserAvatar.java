@@ -0,0 +1,41 @@
+package com.fureverhome.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Metadata of a user's avatar, kept out of the users table so authentication and
+ * profile reads never touch it. The bytes live in the BlobStore under {@code sha256}.
+ */
+@Entity
+@Table(name = "user_avatars")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserAvatar {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false, length = 64)
+    private String sha256;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(nullable = false)
+    private Long size;
+
+    // Mirrors users.avatar_version so versioned avatar URLs resolve from this table alone
+    @Column(name = "avatar_version", nullable = false)
+    private Long avatarVersion;
+
+    @UpdateTimestamp
+    @Column(nullable = false, name = "updated_at")
+    private LocalDateTime updatedAt;
+}
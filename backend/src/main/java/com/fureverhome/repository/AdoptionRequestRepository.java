@@ -1,15 +1,79 @@
 package com.fureverhome.repository;
 
+import com.fureverhome.dto.AdoptionExportRow;
+import com.fureverhome.dto.AdoptionResponse;
 import com.fureverhome.model.AdoptionRequest;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface AdoptionRequestRepository extends JpaRepository<AdoptionRequest, Long> {
     List<AdoptionRequest> findByUserId(Long userId);
     List<AdoptionRequest> findByDogId(Long dogId);
     List<AdoptionRequest> findByStatus(AdoptionRequest.Status status);
-}
 
+    /**
+     * List columns with dog and user joined in, so a page is one statement instead of 1 + 2N
+     * lazy loads; keep in sync with the AdoptionResponse constructor
+     */
+    String RESPONSE_SELECT = "SELECT new com.fureverhome.dto.AdoptionResponse(a.id, d.id, d.name, d.breed, "
+            + "d.hasImage, d.imageSha256, d.imageUrl, u.id, u.username, u.email, a.status, a.message, "
+            + "a.fullName, a.email, a.phone, a.address, a.occupation, a.householdMembers, a.hasOtherPets, "
+            + "a.petExperience, a.createdAt, a.updatedAt) FROM AdoptionRequest a JOIN a.dog d JOIN a.user u";
+
+    String STATUS_FILTER = "(:status IS NULL OR a.status = :status)";
+
+    @Query(value = RESPONSE_SELECT + " WHERE " + STATUS_FILTER,
+            countQuery = "SELECT COUNT(a) FROM AdoptionRequest a WHERE " + STATUS_FILTER)
+    Page<AdoptionResponse> findResponses(@Param("status") AdoptionRequest.Status status, Pageable pageable);
+
+    @Query(value = RESPONSE_SELECT + " WHERE u.id = :userId AND " + STATUS_FILTER,
+            countQuery = "SELECT COUNT(a) FROM AdoptionRequest a WHERE a.user.id = :userId AND " + STATUS_FILTER)
+    Page<AdoptionResponse> findResponsesByUserId(@Param("userId") Long userId,
+                                                 @Param("status") AdoptionRequest.Status status,
+                                                 Pageable pageable);
+
+    @Query(RESPONSE_SELECT + " WHERE a.id = :id")
+    Optional<AdoptionResponse> findResponseById(@Param("id") Long id);
+
+    /**
+     * Approve only if nobody changed the request since it was read at {@code version}
+     */
+    @Modifying
+    @Query(value = "UPDATE adoption_requests SET status = 'APPROVED', version = version + 1, updated_at = :now "
+            + "WHERE id = :id AND version = :version", nativeQuery = true)
+    int approveIfUnchanged(@Param("id") Long id, @Param("version") Long version, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "UPDATE adoption_requests SET status = 'REJECTED', version = version + 1, updated_at = :now "
+            + "WHERE dog_id = :dogId AND status = 'PENDING' AND id <> :approvedId", nativeQuery = true)
+    int rejectOtherPendingRequests(@Param("dogId") Long dogId, @Param("approvedId") Long approvedId,
+                                   @Param("now") LocalDateTime now);
+
+    /**
+     * Every request with its dog and user flattened in, for the admin export. Must be
+     * consumed inside a transaction: pgjdbc only honours the fetch size with autocommit off.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.fureverhome.dto.AdoptionExportRow(a.id, a.status, d.id, d.name, d.breed, "
+            + "u.id, u.username, u.email, a.fullName, a.email, a.phone, a.address, a.occupation, "
+            + "a.householdMembers, a.hasOtherPets, a.petExperience, a.message, a.createdAt, a.updatedAt) "
+            + "FROM AdoptionRequest a JOIN a.dog d JOIN a.user u ORDER BY a.id")
+    Stream<AdoptionExportRow> streamExportRows();
+}
@@ -0,0 +1,42 @@
+package com.fureverhome.repository;
+
+import com.fureverhome.model.DogImage;
+import com.fureverhome.model.DogImageVariant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DogImageRepository extends JpaRepository<DogImage, Long> {
+
+    /**
+     * Images still missing the given variant (uploaded before it existed, or whose job never
+     * ran), skipping those already recorded as undecodable
+     */
+    @Query("SELECT i FROM DogImage i WHERE i.variantsFailedAt IS NULL AND NOT EXISTS " +
+           "(SELECT v.id FROM DogImageVariant v WHERE v.dogId = i.dogId AND v.variant = :variant)")
+    List<DogImage> findWithoutVariant(@Param("variant") DogImageVariant.Variant variant);
+
+    /**
+     * Lock the row so two variant jobs for the same dog write one after the other
+     */
+    @Query(value = "SELECT * FROM dog_images WHERE dog_id = :dogId FOR UPDATE", nativeQuery = true)
+    Optional<DogImage> findByIdForUpdate(@Param("dogId") Long dogId);
+
+    /**
+     * Record that variants could not be generated, unless the image was replaced in the meantime
+     */
+    @Modifying
+    @Query("UPDATE DogImage i SET i.variantsFailedAt = :failedAt, i.variantsError = :error " +
+           "WHERE i.dogId = :dogId AND i.sha256 = :sha256")
+    int markVariantsFailed(@Param("dogId") Long dogId,
+                           @Param("sha256") String sha256,
+                           @Param("failedAt") LocalDateTime failedAt,
+                           @Param("error") String error);
+}
@@ -0,0 +1,15 @@
+package com.fureverhome.repository;
+
+import com.fureverhome.model.DogImageVariant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DogImageVariantRepository extends JpaRepository<DogImageVariant, Long> {
+    List<DogImageVariant> findByDogId(Long dogId);
+    Optional<DogImageVariant> findByDogIdAndVariant(Long dogId, DogImageVariant.Variant variant);
+    void deleteByDogId(Long dogId);
+}
@@ -1,14 +1,106 @@
 package com.fureverhome.repository;
 
+import com.fureverhome.dto.DogExportRow;
+import com.fureverhome.dto.DogSummary;
 import com.fureverhome.model.Dog;
+import com.fureverhome.search.DogFeatures;
+import com.fureverhome.search.SearchDocument;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface DogRepository extends JpaRepository<Dog, Long> {
-    List<Dog> findByAvailable(Boolean available);
-    List<Dog> findByBreedContainingIgnoreCase(String breed);
-}
+public interface DogRepository extends JpaRepository<Dog, Long>, DogRepositoryCustom {
+
+    /**
+     * Card columns only; keep in sync with the DogSummary constructor
+     */
+    String SUMMARY_SELECT = "SELECT new com.fureverhome.dto.DogSummary(d.id, d.name, d.breed, d.age, d.gender, "
+            + "d.healthStatus, SUBSTRING(d.description, 1, " + DogSummary.DESCRIPTION_EXCERPT_LENGTH + "), "
+            + "d.imageUrl, d.hasImage, d.imageSha256, d.available, d.createdAt) FROM Dog d";
+
+    @Query(SUMMARY_SELECT + " ORDER BY d.id")
+    List<DogSummary> findAllSummaries();
+
+    @Query(SUMMARY_SELECT + " WHERE d.available = :available ORDER BY d.id")
+    List<DogSummary> findSummariesByAvailable(@Param("available") Boolean available);
+
+    @Query(SUMMARY_SELECT + " WHERE d.id IN :ids")
+    List<DogSummary> findSummariesByIds(@Param("ids") Collection<Long> ids);
+
+    interface FavoriteCount {
+        Long getDogId();
+        Long getFavoriteCount();
+    }
+
+    @Query("SELECT d.id AS dogId, d.favoriteCount AS favoriteCount FROM Dog d WHERE d.id IN :ids")
+    List<FavoriteCount> findFavoriteCounts(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Mark the dog adopted if it is still available. Returns 0 when another approval got there
+     * first; concurrent callers queue on the row lock, so exactly one of them sees 1.
+     */
+    @Modifying
+    @Query(value = "UPDATE dogs SET available = FALSE, version = version + 1, updated_at = :now "
+            + "WHERE id = :id AND available", nativeQuery = true)
+    int claimForAdoption(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "UPDATE dogs SET favorite_count = favorite_count + 1 WHERE id = :id", nativeQuery = true)
+    int incrementFavoriteCount(@Param("id") Long id);
 
+    @Modifying
+    @Query(value = "UPDATE dogs SET favorite_count = GREATEST(favorite_count - 1, 0) WHERE id = :id", nativeQuery = true)
+    int decrementFavoriteCount(@Param("id") Long id);
+
+    /**
+     * Recount every dog whose counter drifted from favorites; returns the number of dogs fixed
+     */
+    @Modifying
+    @Query(value = "UPDATE dogs d SET favorite_count = c.favorites " +
+            "FROM (SELECT dg.id, COUNT(f.id) AS favorites FROM dogs dg " +
+            "LEFT JOIN favorites f ON f.dog_id = dg.id GROUP BY dg.id) c " +
+            "WHERE d.id = c.id AND d.favorite_count <> c.favorites", nativeQuery = true)
+    int reconcileFavoriteCounts();
+
+    @Query("SELECT MAX(d.updatedAt) FROM Dog d")
+    LocalDateTime findLatestUpdatedAt();
+
+    @Query("SELECT new com.fureverhome.search.SearchDocument(d.id, d.name, d.breed, d.description, d.available) FROM Dog d")
+    List<SearchDocument> findAllSearchDocuments();
+
+    @Query("SELECT new com.fureverhome.search.SearchDocument(d.id, d.name, d.breed, d.description, d.available) "
+            + "FROM Dog d WHERE d.id = :id")
+    Optional<SearchDocument> findSearchDocument(@Param("id") Long id);
+
+    @Query("SELECT new com.fureverhome.search.DogFeatures(d.id, d.breed, d.age, d.gender, d.healthStatus, d.available) FROM Dog d")
+    List<DogFeatures> findAllDogFeatures();
+
+    @Query("SELECT new com.fureverhome.search.DogFeatures(d.id, d.breed, d.age, d.gender, d.healthStatus, d.available) "
+            + "FROM Dog d WHERE d.id = :id")
+    Optional<DogFeatures> findDogFeatures(@Param("id") Long id);
+
+    /**
+     * Every dog for the admin export. Must be consumed inside a transaction: pgjdbc only
+     * honours the fetch size (a server-side cursor) with autocommit off.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.fureverhome.dto.DogExportRow(d.id, d.name, d.breed, d.age, d.gender, d.healthStatus, "
+            + "d.description, d.imageUrl, d.hasImage, d.available, d.favoriteCount, d.createdAt, d.updatedAt) "
+            + "FROM Dog d ORDER BY d.id")
+    Stream<DogExportRow> streamExportRows();
+}
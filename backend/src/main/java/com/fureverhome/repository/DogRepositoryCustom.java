@@ -0,0 +1,18 @@
+package com.fureverhome.repository;
+
+import com.fureverhome.dto.DogCursor;
+import com.fureverhome.dto.DogSearchCriteria;
+import com.fureverhome.dto.DogSort;
+import com.fureverhome.dto.DogSummary;
+
+import java.util.List;
+
+public interface DogRepositoryCustom {
+
+    /**
+     * Keyset page of the dogs matching {@code criteria}: rows strictly after {@code after} in
+     * {@code sort} order. Seeks on the (sort key, id) indexes instead of using OFFSET, so every
+     * page costs the same.
+     */
+    List<DogSummary> search(DogSearchCriteria criteria, DogSort sort, DogCursor after, int limit);
+}
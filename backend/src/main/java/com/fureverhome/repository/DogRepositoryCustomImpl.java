@@ -0,0 +1,105 @@
+package com.fureverhome.repository;
+
+import com.fureverhome.dto.DogCursor;
+import com.fureverhome.dto.DogSearchCriteria;
+import com.fureverhome.dto.DogSort;
+import com.fureverhome.dto.DogSummary;
+import com.fureverhome.model.Dog;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class DogRepositoryCustomImpl implements DogRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<DogSummary> search(DogSearchCriteria criteria, DogSort sort, DogCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<DogSummary> query = cb.createQuery(DogSummary.class);
+        Root<Dog> dog = query.from(Dog.class);
+
+        List<Predicate> where = new ArrayList<>();
+        Predicate filters = DogSpecifications.matching(criteria).toPredicate(dog, query, cb);
+        if (filters != null) {
+            where.add(filters);
+        }
+        if (after != null) {
+            where.add(seek(cb, dog, sort, after));
+        }
+
+        query.select(summary(cb, dog))
+                .where(where.toArray(Predicate[]::new))
+                .orderBy(orderBy(cb, dog, sort));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * Same columns as DogRepository.SUMMARY_SELECT
+     */
+    private static Selection<DogSummary> summary(CriteriaBuilder cb, Root<Dog> dog) {
+        return cb.construct(DogSummary.class,
+                dog.get("id"), dog.get("name"), dog.get("breed"), dog.get("age"), dog.get("gender"),
+                dog.get("healthStatus"),
+                cb.substring(dog.get("description"), 1, DogSummary.DESCRIPTION_EXCERPT_LENGTH),
+                dog.get("imageUrl"), dog.get("hasImage"), dog.get("imageSha256"), dog.get("available"),
+                dog.get("createdAt"));
+    }
+
+    private static List<Order> orderBy(CriteriaBuilder cb, Root<Dog> dog, DogSort sort) {
+        return switch (sort) {
+            case NEWEST -> List.of(cb.desc(dog.get("createdAt")), cb.desc(dog.get("id")));
+            case NAME -> List.of(cb.asc(dog.get("name")), cb.asc(dog.get("id")));
+            case AGE -> List.of(cb.asc(dog.get("age")), cb.asc(dog.get("id")));
+        };
+    }
+
+    /**
+     * key >= :key AND (key > :key OR (key = :key AND id > :id)), mirrored for descending order.
+     * The leading bound is redundant but lets Postgres range-scan the (key, id) index from the
+     * cursor; the OR alone is only applied as a filter, so deep pages would scan from the start.
+     */
+    private static Predicate seek(CriteriaBuilder cb, Root<Dog> dog, DogSort sort, DogCursor after) {
+        Path<Long> id = dog.get("id");
+        return switch (sort) {
+            case NEWEST -> {
+                Path<LocalDateTime> createdAt = dog.get("createdAt");
+                yield cb.and(
+                        cb.lessThanOrEqualTo(createdAt, after.createdAtKey()),
+                        cb.or(
+                                cb.lessThan(createdAt, after.createdAtKey()),
+                                cb.and(cb.equal(createdAt, after.createdAtKey()), cb.lessThan(id, after.getId()))));
+            }
+            case NAME -> {
+                Path<String> name = dog.get("name");
+                yield cb.and(
+                        cb.greaterThanOrEqualTo(name, after.getKey()),
+                        cb.or(
+                                cb.greaterThan(name, after.getKey()),
+                                cb.and(cb.equal(name, after.getKey()), cb.greaterThan(id, after.getId()))));
+            }
+            case AGE -> {
+                Path<Integer> age = dog.get("age");
+                yield cb.and(
+                        cb.greaterThanOrEqualTo(age, after.ageKey()),
+                        cb.or(
+                                cb.greaterThan(age, after.ageKey()),
+                                cb.and(cb.equal(age, after.ageKey()), cb.greaterThan(id, after.getId()))));
+            }
+        };
+    }
+}
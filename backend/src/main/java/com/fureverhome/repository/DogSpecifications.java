@@ -0,0 +1,75 @@
+package com.fureverhome.repository;
+
+import com.fureverhome.dto.DogSearchCriteria;
+import com.fureverhome.model.Dog;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Composable filters for the dog search. Each one is a sargable predicate on an indexed
+ * column: breed uses an anchored LIKE on lower(breed), age and availability use the
+ * composite catalog indexes (see db/migration/V2__hot_query_indexes.sql).
+ */
+public final class DogSpecifications {
+
+    private DogSpecifications() {
+    }
+
+    public static Specification<Dog> breedStartsWith(String prefix) {
+        String pattern = escapeLike(prefix.trim().toLowerCase(Locale.ROOT)) + "%";
+        return (dog, query, cb) -> cb.like(cb.lower(dog.get("breed")), pattern, '\\');
+    }
+
+    public static Specification<Dog> ageAtLeast(int minAge) {
+        return (dog, query, cb) -> cb.greaterThanOrEqualTo(dog.get("age"), minAge);
+    }
+
+    public static Specification<Dog> ageAtMost(int maxAge) {
+        return (dog, query, cb) -> cb.lessThanOrEqualTo(dog.get("age"), maxAge);
+    }
+
+    public static Specification<Dog> hasGender(Dog.Gender gender) {
+        return (dog, query, cb) -> cb.equal(dog.get("gender"), gender);
+    }
+
+    public static Specification<Dog> hasHealthStatus(String healthStatus) {
+        return (dog, query, cb) -> cb.equal(dog.get("healthStatus"), healthStatus);
+    }
+
+    public static Specification<Dog> isAvailable(boolean available) {
+        return (dog, query, cb) -> cb.equal(dog.get("available"), available);
+    }
+
+    /**
+     * AND of every filter set in the criteria
+     */
+    public static Specification<Dog> matching(DogSearchCriteria criteria) {
+        List<Specification<Dog>> specs = new ArrayList<>();
+        if (criteria.getBreed() != null && !criteria.getBreed().isBlank()) {
+            specs.add(breedStartsWith(criteria.getBreed()));
+        }
+        if (criteria.getMinAge() != null) {
+            specs.add(ageAtLeast(criteria.getMinAge()));
+        }
+        if (criteria.getMaxAge() != null) {
+            specs.add(ageAtMost(criteria.getMaxAge()));
+        }
+        if (criteria.getGender() != null) {
+            specs.add(hasGender(criteria.getGender()));
+        }
+        if (criteria.getHealthStatus() != null && !criteria.getHealthStatus().isBlank()) {
+            specs.add(hasHealthStatus(criteria.getHealthStatus()));
+        }
+        if (criteria.getAvailable() != null) {
+            specs.add(isAvailable(criteria.getAvailable()));
+        }
+        return Specification.allOf(specs);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
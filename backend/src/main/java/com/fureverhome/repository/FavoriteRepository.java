@@ -1,7 +1,9 @@
 package com.fureverhome.repository;
 
+import com.fureverhome.dto.DogSummary;
 import com.fureverhome.model.Favorite;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -28,9 +30,11 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
     boolean existsByUserIdAndDogId(Long userId, Long dogId);
 
     /**
-     * Delete a favorite by user and dog
+     * Delete a favorite by user and dog in one statement; returns the number of rows removed
      */
-    void deleteByUserIdAndDogId(Long userId, Long dogId);
+    @Modifying
+    @Query("DELETE FROM Favorite f WHERE f.user.id = :userId AND f.dog.id = :dogId")
+    int deleteByUserIdAndDogId(@Param("userId") Long userId, @Param("dogId") Long dogId);
 
     /**
      * Get all dog IDs favorited by a user
@@ -39,8 +43,22 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
     List<Long> findDogIdsByUserId(@Param("userId") Long userId);
 
     /**
-     * Count favorites for a specific dog
+     * Card-sized summaries of a user's favorite dogs, most recently favorited first
      */
-    long countByDogId(Long dogId);
-}
+    @Query("SELECT new com.fureverhome.dto.DogSummary(d.id, d.name, d.breed, d.age, d.gender, d.healthStatus, "
+            + "SUBSTRING(d.description, 1, " + DogSummary.DESCRIPTION_EXCERPT_LENGTH + "), "
+            + "d.imageUrl, d.hasImage, d.imageSha256, d.available, d.createdAt) "
+            + "FROM Favorite f JOIN f.dog d WHERE f.user.id = :userId ORDER BY f.createdAt DESC")
+    List<DogSummary> findFavoriteDogSummaries(@Param("userId") Long userId);
+
+    interface FavoritePair {
+        Long getUserId();
+        Long getDogId();
+    }
 
+    /**
+     * Every (user, dog) favorite, for the co-favorite signal of the similar-dogs index
+     */
+    @Query("SELECT f.user.id AS userId, f.dog.id AS dogId FROM Favorite f")
+    List<FavoritePair> findAllPairs();
+}
@@ -0,0 +1,9 @@
+package com.fureverhome.repository;
+
+import com.fureverhome.model.UserAvatar;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserAvatarRepository extends JpaRepository<UserAvatar, Long> {
+}
@@ -9,8 +9,18 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
+    Optional<Credentials> findCredentialsByEmail(String email);
     Optional<User> findByEmail(String email);
     Boolean existsByUsername(String username);
     Boolean existsByEmail(String email);
+
+    /**
+     * Columns needed to authenticate a request
+     */
+    interface Credentials {
+        String getEmail();
+        String getPasswordHash();
+        User.Role getRole();
+    }
 }
 
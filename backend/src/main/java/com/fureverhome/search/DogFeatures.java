@@ -0,0 +1,21 @@
+package com.fureverhome.search;
+
+import com.fureverhome.model.Dog;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The attribute columns of a dog that feed the similar-dogs index
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DogFeatures {
+    private Long id;
+    private String breed;
+    private Integer age;
+    private Dog.Gender gender;
+    private String healthStatus;
+    private Boolean available;
+}
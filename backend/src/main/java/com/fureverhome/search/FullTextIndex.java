@@ -0,0 +1,319 @@
+package com.fureverhome.search;
+
+import com.fureverhome.dto.SearchHitDTO;
+import com.fureverhome.dto.SearchIndexStatsDTO;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over dog names, breeds and descriptions, ranked with BM25.
+ * Name and breed terms count more than description terms. The last query word also
+ * matches as a prefix (search-as-you-type), and words with no exact term fall back to
+ * terms within one or two edits.
+ *
+ * Reads take a shared lock and never touch the database; writes are single-document
+ * upserts driven by DogChangedEvent.
+ */
+@Component
+public class FullTextIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int BREED_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private static final double PREFIX_BOOST = 0.7;
+    private static final double FUZZY_BOOST = 0.5;
+    private static final int MAX_EXPANSIONS = 32;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // term -> (dog id -> field-weighted term frequency)
+    private final TreeMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private final Map<Long, IndexedDog> dogs = new HashMap<>();
+    private long totalLength;
+    private long postingCount;
+
+    private final AtomicLong queries = new AtomicLong();
+    private final AtomicLong queryNanos = new AtomicLong();
+    private volatile long lastRebuildMillis;
+
+    private record IndexedDog(String name, String breed, boolean available, int length, String[] terms) {
+    }
+
+    /**
+     * Replace the whole index with the given documents
+     */
+    public void rebuild(Collection<SearchDocument> documents) {
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            dogs.clear();
+            totalLength = 0;
+            postingCount = 0;
+            for (SearchDocument document : documents) {
+                add(document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        lastRebuildMillis = (System.nanoTime() - start) / 1_000_000;
+    }
+
+    public void upsert(SearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            remove(document.getId());
+            add(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void delete(Long dogId) {
+        lock.writeLock().lock();
+        try {
+            remove(dogId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Top {@code limit} dogs for the query, best first
+     */
+    public List<SearchHitDTO> search(String query, int limit, boolean availableOnly) {
+        long start = System.nanoTime();
+        List<String> tokens = TextAnalyzer.tokenize(query);
+
+        lock.readLock().lock();
+        try {
+            if (dogs.isEmpty()) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / dogs.size();
+            Map<Long, Double> scores = new HashMap<>();
+
+            for (int i = 0; i < tokens.size(); i++) {
+                String token = tokens.get(i);
+                boolean last = i == tokens.size() - 1;
+                if (TextAnalyzer.isStopWord(token) && !last) {
+                    continue;
+                }
+
+                // A dog scores once per query word, through its best-matching expansion
+                Map<Long, Double> tokenScores = new HashMap<>();
+                for (Map.Entry<String, Double> expansion : expand(token, last).entrySet()) {
+                    Map<Long, Integer> matches = postings.get(expansion.getKey());
+                    double idf = Math.log(1 + (dogs.size() - matches.size() + 0.5) / (matches.size() + 0.5));
+                    for (Map.Entry<Long, Integer> match : matches.entrySet()) {
+                        IndexedDog dog = dogs.get(match.getKey());
+                        if (availableOnly && !dog.available()) {
+                            continue;
+                        }
+                        int tf = match.getValue();
+                        double norm = K1 * (1 - B + B * dog.length() / averageLength);
+                        double score = expansion.getValue() * idf * tf * (K1 + 1) / (tf + norm);
+                        tokenScores.merge(match.getKey(), score, Math::max);
+                    }
+                }
+                tokenScores.forEach((dogId, score) -> scores.merge(dogId, score, Double::sum));
+            }
+
+            return topHits(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+            queries.incrementAndGet();
+            queryNanos.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    public SearchIndexStatsDTO getStats() {
+        lock.readLock().lock();
+        try {
+            long count = queries.get();
+            double averageMicros = count == 0 ? 0 : queryNanos.get() / 1000.0 / count;
+            SearchIndexStatsDTO stats = new SearchIndexStatsDTO();
+            stats.setDocuments(dogs.size());
+            stats.setTerms(postings.size());
+            stats.setPostings(postingCount);
+            stats.setEstimatedBytes(estimateBytes());
+            stats.setQueries(count);
+            stats.setAverageQueryMicros(averageMicros);
+            stats.setLastRebuildMillis(lastRebuildMillis);
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Index terms the query word should match, with their boost. Caller holds the read lock.
+     */
+    private Map<String, Double> expand(String token, boolean last) {
+        Map<String, Double> expansions = new HashMap<>();
+        String stem = TextAnalyzer.stem(token);
+        if (postings.containsKey(stem)) {
+            expansions.put(stem, 1.0);
+        }
+
+        if (last) {
+            NavigableMap<String, Map<Long, Integer>> prefixed =
+                    postings.subMap(token, true, token + Character.MAX_VALUE, false);
+            for (String term : prefixed.keySet()) {
+                if (expansions.size() >= MAX_EXPANSIONS) {
+                    break;
+                }
+                expansions.putIfAbsent(term, PREFIX_BOOST);
+            }
+        }
+
+        if (expansions.isEmpty() && stem.length() >= 4) {
+            // Typos rarely hit the first letter, so only terms sharing it are compared
+            int maxEdits = stem.length() >= 8 ? 2 : 1;
+            String first = stem.substring(0, 1);
+            for (String term : postings.subMap(first, true, first + Character.MAX_VALUE, false).keySet()) {
+                if (Math.abs(term.length() - stem.length()) <= maxEdits
+                        && withinEditDistance(stem, term, maxEdits)) {
+                    expansions.put(term, FUZZY_BOOST);
+                    if (expansions.size() >= MAX_EXPANSIONS) {
+                        break;
+                    }
+                }
+            }
+        }
+        return expansions;
+    }
+
+    private List<SearchHitDTO> topHits(Map<Long, Double> scores, int limit) {
+        PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(Map.Entry.comparingByValue());
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            top.offer(entry);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<SearchHitDTO> hits = new ArrayList<>(top.size());
+        for (Map.Entry<Long, Double> entry : top) {
+            IndexedDog dog = dogs.get(entry.getKey());
+            hits.add(new SearchHitDTO(entry.getKey(), dog.name(), dog.breed(), entry.getValue()));
+        }
+        hits.sort(Comparator.comparingDouble(SearchHitDTO::getScore).reversed());
+        return hits;
+    }
+
+    /**
+     * Caller holds the write lock
+     */
+    private void add(SearchDocument document) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = addTerms(frequencies, document.getName(), NAME_WEIGHT)
+                + addTerms(frequencies, document.getBreed(), BREED_WEIGHT)
+                + addTerms(frequencies, document.getDescription(), DESCRIPTION_WEIGHT);
+
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), term -> new HashMap<>())
+                    .put(document.getId(), entry.getValue());
+        }
+        postingCount += frequencies.size();
+        totalLength += length;
+        dogs.put(document.getId(), new IndexedDog(document.getName(), document.getBreed(),
+                Boolean.TRUE.equals(document.getAvailable()), length,
+                frequencies.keySet().toArray(String[]::new)));
+    }
+
+    /**
+     * Caller holds the write lock
+     */
+    private void remove(Long dogId) {
+        IndexedDog dog = dogs.remove(dogId);
+        if (dog == null) {
+            return;
+        }
+        for (String term : dog.terms()) {
+            Map<Long, Integer> matches = postings.get(term);
+            if (matches != null) {
+                matches.remove(dogId);
+                if (matches.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        postingCount -= dog.terms().length;
+        totalLength -= dog.length();
+    }
+
+    private static int addTerms(Map<String, Integer> frequencies, String text, int weight) {
+        int length = 0;
+        for (String term : TextAnalyzer.analyze(text)) {
+            frequencies.merge(term, weight, Integer::sum);
+            length += weight;
+        }
+        return length;
+    }
+
+    /**
+     * Levenshtein distance <= maxEdits, abandoning the row scan as soon as it is exceeded
+     */
+    private static boolean withinEditDistance(String a, String b, int maxEdits) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxEdits) {
+                return false;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()] <= maxEdits;
+    }
+
+    /**
+     * Rough retained size: object headers, map nodes and string bytes (compact Latin-1 strings).
+     * Caller holds the read lock.
+     */
+    private long estimateBytes() {
+        long bytes = 0;
+        for (String term : postings.keySet()) {
+            bytes += 40 + 24 + term.length();  // TreeMap entry + String
+            bytes += 48 + 16;                  // posting HashMap + table header
+        }
+        bytes += postingCount * (32 + 8 + 16); // HashMap node, table slot, boxed id
+        for (IndexedDog dog : dogs.values()) {
+            bytes += 32 + 8 + 16;              // node, slot, boxed id in the dogs map
+            bytes += 32 + 16 + 4L * dog.terms().length;
+            bytes += 2 * 24 + length(dog.name()) + length(dog.breed());
+        }
+        return bytes;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
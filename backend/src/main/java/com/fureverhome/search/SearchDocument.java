@@ -0,0 +1,19 @@
+package com.fureverhome.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The text columns of a dog that feed the in-memory search structures
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchDocument {
+    private Long id;
+    private String name;
+    private String breed;
+    private String description;
+    private Boolean available;
+}
@@ -0,0 +1,318 @@
+package com.fureverhome.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+/**
+ * Precomputed "similar dogs" table: for every dog, its {@link #MAX_NEIGHBORS} most similar
+ * available dogs. Similarity mixes attributes (breed, age, gender, health) with cosine
+ * similarity of the users who favorited both dogs.
+ *
+ * Building compares every pair of dogs, split across the common fork/join pool. Request
+ * threads never wait for that: lookups read finished rows without locking, and changes are
+ * only queued. Background callers ({@link #rebuild}, {@link #refreshIfDirty()}) apply the
+ * queue to their own copy of the inputs, compute rows from it and swap them in.
+ */
+@Component
+public class SimilarDogIndex {
+
+    public static final int MAX_NEIGHBORS = 20;
+
+    private static final double BREED_WEIGHT = 0.4;
+    private static final double AGE_WEIGHT = 0.2;
+    private static final int AGE_SPAN = 8;
+    private static final double GENDER_WEIGHT = 0.1;
+    private static final double HEALTH_WEIGHT = 0.1;
+    private static final double CO_FAVORITE_WEIGHT = 0.6;
+
+    private static final int ROWS_PER_TASK = 64;
+
+    private static final Comparator<Neighbor> BEST_FIRST = Comparator
+            .comparingDouble(Neighbor::score).reversed()
+            .thenComparingLong(Neighbor::dogId);
+
+    // Changes from request threads, applied by the next rebuild or refresh
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+
+    // Held only by background builders; guards the inputs below
+    private final Object buildLock = new Object();
+    private final Map<Long, DogFeatures> dogs = new HashMap<>();
+    private final Map<Long, Set<Long>> favoritedBy = new HashMap<>();
+    private final Set<Long> dirty = new HashSet<>();
+
+    // Rows are replaced whole, never mutated
+    private volatile Map<Long, Neighbor[]> neighbors = new ConcurrentHashMap<>();
+    private volatile long lastRebuildMillis;
+
+    public record Neighbor(long dogId, double score) {
+    }
+
+    /**
+     * Ids of the most similar available dogs, best first. Empty for unknown dogs.
+     */
+    public List<Long> similarTo(Long dogId, int limit) {
+        Neighbor[] row = neighbors.get(dogId);
+        if (row == null) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(Math.min(limit, row.length));
+        for (int i = 0; i < row.length && ids.size() < limit; i++) {
+            ids.add(row[i].dogId());
+        }
+        return ids;
+    }
+
+    /**
+     * Replace everything. {@code usersByDog} maps each dog to the users who favorited it.
+     * Changes queued meanwhile are replayed on top; they are idempotent set operations.
+     */
+    public void rebuild(Collection<DogFeatures> features, Map<Long, ? extends Collection<Long>> usersByDog) {
+        synchronized (buildLock) {
+            long start = System.nanoTime();
+            dogs.clear();
+            favoritedBy.clear();
+            for (DogFeatures dog : features) {
+                dogs.put(dog.getId(), dog);
+            }
+            usersByDog.forEach((dogId, users) -> favoritedBy.put(dogId, new HashSet<>(users)));
+            applyPending();
+            dirty.clear();
+
+            List<DogFeatures> candidates = candidates();
+            Map<Long, Neighbor[]> rows = new ConcurrentHashMap<>();
+            forEachParallel(new ArrayList<>(dogs.values()), dog -> rows.put(dog.getId(), computeRow(dog, candidates)));
+            neighbors = rows;
+            lastRebuildMillis = (System.nanoTime() - start) / 1_000_000;
+        }
+    }
+
+    public void upsert(DogFeatures dog) {
+        pending.add(() -> {
+            dogs.put(dog.getId(), dog);
+            dirty.add(dog.getId());
+        });
+    }
+
+    public void delete(Long dogId) {
+        pending.add(() -> {
+            dogs.remove(dogId);
+            favoritedBy.remove(dogId);
+            dirty.add(dogId);
+        });
+    }
+
+    public void favoriteChanged(Long userId, Long dogId, boolean added) {
+        pending.add(() -> {
+            if (added) {
+                favoritedBy.computeIfAbsent(dogId, id -> new HashSet<>()).add(userId);
+            } else {
+                Set<Long> users = favoritedBy.get(dogId);
+                if (users != null && users.remove(userId) && users.isEmpty()) {
+                    favoritedBy.remove(dogId);
+                }
+            }
+            dirty.add(dogId);
+        });
+    }
+
+    /**
+     * Apply queued changes, then recompute rows of dirty dogs. Any other row that lists a
+     * dirty dog is recomputed too (its score may have dropped and let an outsider in); the
+     * rest only get the dirty dogs offered as new candidates. The result matches a full rebuild.
+     */
+    public void refreshIfDirty() {
+        synchronized (buildLock) {
+            applyPending();
+            if (dirty.isEmpty()) {
+                return;
+            }
+            Set<Long> changed = new HashSet<>(dirty);
+            dirty.clear();
+
+            Map<Long, Neighbor[]> rows = neighbors;
+            changed.stream().filter(id -> !dogs.containsKey(id)).forEach(rows::remove);
+            List<DogFeatures> changedCandidates = changed.stream()
+                    .map(dogs::get)
+                    .filter(dog -> dog != null && Boolean.TRUE.equals(dog.getAvailable()))
+                    .toList();
+            List<DogFeatures> candidates = candidates();
+
+            forEachParallel(new ArrayList<>(dogs.values()), dog -> {
+                Neighbor[] row = rows.get(dog.getId());
+                if (row == null || changed.contains(dog.getId()) || lists(row, changed)) {
+                    rows.put(dog.getId(), computeRow(dog, candidates));
+                    return;
+                }
+                Neighbor[] patched = row;
+                for (DogFeatures candidate : changedCandidates) {
+                    patched = offer(patched, dog, candidate);
+                }
+                if (patched != row) {
+                    rows.put(dog.getId(), patched);
+                }
+            });
+        }
+    }
+
+    public long getLastRebuildMillis() {
+        return lastRebuildMillis;
+    }
+
+    /**
+     * Caller holds the build lock
+     */
+    private void applyPending() {
+        for (Runnable change = pending.poll(); change != null; change = pending.poll()) {
+            change.run();
+        }
+    }
+
+    /**
+     * Caller holds the build lock
+     */
+    private List<DogFeatures> candidates() {
+        return dogs.values().stream()
+                .filter(dog -> Boolean.TRUE.equals(dog.getAvailable()))
+                .toList();
+    }
+
+    /**
+     * Bounded min-heap over all candidates; runs on pool threads while the caller holds the build lock
+     */
+    private Neighbor[] computeRow(DogFeatures dog, List<DogFeatures> candidates) {
+        PriorityQueue<Neighbor> top = new PriorityQueue<>(BEST_FIRST.reversed());
+        for (DogFeatures candidate : candidates) {
+            if (candidate.getId().equals(dog.getId())) {
+                continue;
+            }
+            double score = similarity(dog, candidate);
+            if (score <= 0) {
+                continue;
+            }
+            top.offer(new Neighbor(candidate.getId(), score));
+            if (top.size() > MAX_NEIGHBORS) {
+                top.poll();
+            }
+        }
+        Neighbor[] row = top.toArray(Neighbor[]::new);
+        Arrays.sort(row, BEST_FIRST);
+        return row;
+    }
+
+    /**
+     * Copy of the row with the candidate inserted, or the same row if it doesn't make the cut
+     */
+    private Neighbor[] offer(Neighbor[] row, DogFeatures dog, DogFeatures candidate) {
+        if (candidate.getId().equals(dog.getId())) {
+            return row;
+        }
+        Neighbor neighbor = new Neighbor(candidate.getId(), similarity(dog, candidate));
+        if (neighbor.score() <= 0
+                || (row.length == MAX_NEIGHBORS && BEST_FIRST.compare(neighbor, row[row.length - 1]) >= 0)) {
+            return row;
+        }
+        int position = Arrays.binarySearch(row, neighbor, BEST_FIRST);
+        int insertAt = position < 0 ? -position - 1 : position;
+        Neighbor[] patched = new Neighbor[Math.min(row.length + 1, MAX_NEIGHBORS)];
+        System.arraycopy(row, 0, patched, 0, insertAt);
+        patched[insertAt] = neighbor;
+        System.arraycopy(row, insertAt, patched, insertAt + 1, patched.length - insertAt - 1);
+        return patched;
+    }
+
+    private double similarity(DogFeatures a, DogFeatures b) {
+        double score = 0;
+        if (a.getBreed() != null && a.getBreed().equalsIgnoreCase(b.getBreed())) {
+            score += BREED_WEIGHT;
+        }
+        if (a.getAge() != null && b.getAge() != null) {
+            int difference = Math.abs(a.getAge() - b.getAge());
+            score += AGE_WEIGHT * Math.max(0, 1 - (double) difference / AGE_SPAN);
+        }
+        if (a.getGender() != null && a.getGender() == b.getGender()) {
+            score += GENDER_WEIGHT;
+        }
+        if (a.getHealthStatus() != null && a.getHealthStatus().equalsIgnoreCase(b.getHealthStatus())) {
+            score += HEALTH_WEIGHT;
+        }
+        return score + CO_FAVORITE_WEIGHT * coFavorite(a.getId(), b.getId());
+    }
+
+    /**
+     * Cosine similarity of the two dogs' favoriting users
+     */
+    private double coFavorite(Long a, Long b) {
+        Set<Long> usersA = favoritedBy.get(a);
+        Set<Long> usersB = favoritedBy.get(b);
+        if (usersA == null || usersB == null) {
+            return 0;
+        }
+        Set<Long> smaller = usersA.size() <= usersB.size() ? usersA : usersB;
+        Set<Long> larger = smaller == usersA ? usersB : usersA;
+        int shared = 0;
+        for (Long user : smaller) {
+            if (larger.contains(user)) {
+                shared++;
+            }
+        }
+        return shared == 0 ? 0 : shared / Math.sqrt((double) usersA.size() * usersB.size());
+    }
+
+    private static boolean lists(Neighbor[] row, Set<Long> dogIds) {
+        for (Neighbor neighbor : row) {
+            if (dogIds.contains(neighbor.dogId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void forEachParallel(List<DogFeatures> dogs, Consumer<DogFeatures> action) {
+        ForkJoinPool.commonPool().invoke(new RowTask(dogs, 0, dogs.size(), action));
+    }
+
+    /**
+     * Splits the dog list in halves until a slice is small enough to run directly
+     */
+    private static final class RowTask extends RecursiveAction {
+        private final List<DogFeatures> dogs;
+        private final int from;
+        private final int to;
+        private final Consumer<DogFeatures> action;
+
+        private RowTask(List<DogFeatures> dogs, int from, int to, Consumer<DogFeatures> action) {
+            this.dogs = dogs;
+            this.from = from;
+            this.to = to;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= ROWS_PER_TASK) {
+                for (int i = from; i < to; i++) {
+                    action.accept(dogs.get(i));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RowTask(dogs, from, middle, action), new RowTask(dogs, middle, to, action));
+        }
+    }
+}
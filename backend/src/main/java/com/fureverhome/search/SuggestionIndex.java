@@ -0,0 +1,162 @@
+package com.fureverhome.search;
+
+import com.fureverhome.dto.SuggestionDTO;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Breed and name typeahead. Writes only adjust per-phrase counts of available dogs and
+ * mark the index dirty; {@link #refreshIfDirty()} then rebuilds the immutable
+ * SuggestionTrie off the request path and swaps it in, so lookups never lock.
+ */
+@Component
+public class SuggestionIndex {
+
+    private final Map<Long, SearchDocument> dogs = new HashMap<>();
+    private final Map<String, Phrase> breeds = new HashMap<>();
+    private final Map<String, Phrase> names = new HashMap<>();
+    private boolean dirty;
+
+    private volatile SuggestionTrie trie = SuggestionTrie.EMPTY;
+
+    private static final class Phrase {
+        private final String display;
+        private int availableDogs;
+
+        private Phrase(String display) {
+            this.display = display;
+        }
+    }
+
+    public List<SuggestionDTO> suggest(String query, int limit) {
+        return trie.suggest(normalize(query), Math.min(limit, SuggestionTrie.MAX_SUGGESTIONS));
+    }
+
+    public synchronized void rebuild(Collection<SearchDocument> documents) {
+        dogs.clear();
+        breeds.clear();
+        names.clear();
+        for (SearchDocument document : documents) {
+            add(document);
+        }
+        dirty = true;
+        refreshIfDirty();
+    }
+
+    public synchronized void upsert(SearchDocument document) {
+        remove(document.getId());
+        add(document);
+        dirty = true;
+    }
+
+    public synchronized void delete(Long dogId) {
+        remove(dogId);
+        dirty = true;
+    }
+
+    /**
+     * Rebuild the trie if any count changed since the last build
+     */
+    public synchronized void refreshIfDirty() {
+        if (!dirty) {
+            return;
+        }
+        List<SuggestionDTO> entries = new ArrayList<>();
+        Map<String, List<Integer>> keys = new HashMap<>();
+        addEntries(breeds, SuggestionDTO.Type.BREED, entries, keys);
+        addEntries(names, SuggestionDTO.Type.NAME, entries, keys);
+        trie = SuggestionTrie.build(entries, keys);
+        dirty = false;
+    }
+
+    public int nodeCount() {
+        return trie.nodeCount();
+    }
+
+    public long estimatedBytes() {
+        return trie.estimatedBytes();
+    }
+
+    /**
+     * Lower-case and collapse everything that is not a letter or digit into single spaces
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean space = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (space && normalized.length() > 0) {
+                    normalized.append(' ');
+                }
+                normalized.append(Character.toLowerCase(c));
+                space = false;
+            } else {
+                space = true;
+            }
+        }
+        // Keep a trailing space so "golden " only matches multi-word phrases
+        if (space && normalized.length() > 0 && Character.isWhitespace(text.charAt(text.length() - 1))) {
+            normalized.append(' ');
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * Phrases with no available dogs are left out. Multi-word phrases are also keyed by
+     * each later word, so "retr" finds "Golden Retriever".
+     */
+    private static void addEntries(Map<String, Phrase> phrases, SuggestionDTO.Type type,
+                                   List<SuggestionDTO> entries, Map<String, List<Integer>> keys) {
+        for (Map.Entry<String, Phrase> phrase : phrases.entrySet()) {
+            if (phrase.getValue().availableDogs == 0) {
+                continue;
+            }
+            int index = entries.size();
+            entries.add(new SuggestionDTO(phrase.getValue().display, type, phrase.getValue().availableDogs));
+
+            String key = phrase.getKey();
+            keys.computeIfAbsent(key, k -> new ArrayList<>()).add(index);
+            for (int i = key.indexOf(' '); i >= 0; i = key.indexOf(' ', i + 1)) {
+                keys.computeIfAbsent(key.substring(i + 1), k -> new ArrayList<>()).add(index);
+            }
+        }
+    }
+
+    private void add(SearchDocument document) {
+        // Only the suggestion fields are retained, not the description
+        dogs.put(document.getId(), new SearchDocument(document.getId(), document.getName(),
+                document.getBreed(), null, document.getAvailable()));
+        int delta = Boolean.TRUE.equals(document.getAvailable()) ? 1 : 0;
+        count(breeds, document.getBreed(), delta);
+        count(names, document.getName(), delta);
+    }
+
+    private void remove(Long dogId) {
+        SearchDocument previous = dogs.remove(dogId);
+        if (previous != null && Boolean.TRUE.equals(previous.getAvailable())) {
+            count(breeds, previous.getBreed(), -1);
+            count(names, previous.getName(), -1);
+        }
+    }
+
+    private static void count(Map<String, Phrase> phrases, String text, int delta) {
+        String key = normalize(text);
+        if (key.isEmpty()) {
+            return;
+        }
+        Phrase phrase = phrases.computeIfAbsent(key, k -> new Phrase(text.trim()));
+        phrase.availableDogs += delta;
+        if (phrase.availableDogs <= 0) {
+            phrases.remove(key);
+        }
+    }
+}
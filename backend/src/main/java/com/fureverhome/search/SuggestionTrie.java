@@ -0,0 +1,168 @@
+package com.fureverhome.search;
+
+import com.fureverhome.dto.SuggestionDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Immutable prefix trie flattened into parallel arrays. Nodes are laid out breadth-first,
+ * so each node's children are a contiguous, label-sorted run found by binary search.
+ * Every node stores its best {@link #MAX_SUGGESTIONS} entries, precomputed at build time,
+ * so a lookup is one walk down the trie and a copy of at most that many references.
+ */
+public final class SuggestionTrie {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    public static final SuggestionTrie EMPTY = build(List.of(), Map.of());
+
+    private final char[] labels;
+    private final int[] firstChild;
+    private final int[] childCount;
+    private final int[] topStart;
+    private final byte[] topCount;
+    private final int[] topEntries;
+    private final SuggestionDTO[] entries;
+
+    private SuggestionTrie(char[] labels, int[] firstChild, int[] childCount, int[] topStart,
+                           byte[] topCount, int[] topEntries, SuggestionDTO[] entries) {
+        this.labels = labels;
+        this.firstChild = firstChild;
+        this.childCount = childCount;
+        this.topStart = topStart;
+        this.topCount = topCount;
+        this.topEntries = topEntries;
+        this.entries = entries;
+    }
+
+    /**
+     * Best entries whose key starts with {@code normalizedPrefix}, heaviest first
+     */
+    public List<SuggestionDTO> suggest(String normalizedPrefix, int limit) {
+        int node = 0;
+        for (int i = 0; i < normalizedPrefix.length(); i++) {
+            node = child(node, normalizedPrefix.charAt(i));
+            if (node < 0) {
+                return List.of();
+            }
+        }
+        int count = Math.min(limit, topCount[node]);
+        SuggestionDTO[] result = new SuggestionDTO[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = entries[topEntries[topStart[node] + i]];
+        }
+        return Arrays.asList(result);
+    }
+
+    public int nodeCount() {
+        return labels.length;
+    }
+
+    public long estimatedBytes() {
+        return labels.length * (2L + 4 + 4 + 4 + 1) + topEntries.length * 4L + entries.length * 48L;
+    }
+
+    private int child(int node, char label) {
+        int low = firstChild[node];
+        int high = low + childCount[node] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char midLabel = labels[mid];
+            if (midLabel < label) {
+                low = mid + 1;
+            } else if (midLabel > label) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Build from entries and their keys. A key maps to the indexes of the entries it should
+     * surface; an entry may be reachable through several keys (e.g. each word of a breed).
+     */
+    public static SuggestionTrie build(List<SuggestionDTO> entries, Map<String, List<Integer>> keys) {
+        Comparator<Integer> byWeight = Comparator
+                .comparingInt((Integer entry) -> entries.get(entry).getAvailableDogs()).reversed()
+                .thenComparing(entry -> entries.get(entry).getText());
+
+        BuildNode root = new BuildNode();
+        for (Map.Entry<String, List<Integer>> key : keys.entrySet()) {
+            BuildNode node = root;
+            for (int i = 0; i < key.getKey().length(); i++) {
+                node = node.children.computeIfAbsent(key.getKey().charAt(i), c -> new BuildNode());
+            }
+            node.entries.addAll(key.getValue());
+        }
+        computeTop(root, byWeight);
+
+        // Breadth-first flattening keeps siblings adjacent; the list grows while it is walked
+        List<BuildNode> order = new ArrayList<>();
+        order.add(root);
+        for (int i = 0; i < order.size(); i++) {
+            BuildNode node = order.get(i);
+            node.firstChild = order.size();
+            for (Map.Entry<Character, BuildNode> child : node.children.entrySet()) {
+                child.getValue().label = child.getKey();
+                order.add(child.getValue());
+            }
+        }
+
+        int size = order.size();
+        char[] labels = new char[size];
+        int[] firstChild = new int[size];
+        int[] childCount = new int[size];
+        int[] topStart = new int[size];
+        byte[] topCount = new byte[size];
+        int[] topEntries = new int[order.stream().mapToInt(node -> node.top.length).sum()];
+        int offset = 0;
+        for (int i = 0; i < size; i++) {
+            BuildNode node = order.get(i);
+            labels[i] = node.label;
+            firstChild[i] = node.firstChild;
+            childCount[i] = node.children.size();
+            topStart[i] = offset;
+            topCount[i] = (byte) node.top.length;
+            System.arraycopy(node.top, 0, topEntries, offset, node.top.length);
+            offset += node.top.length;
+        }
+
+        return new SuggestionTrie(labels, firstChild, childCount, topStart, topCount, topEntries,
+                entries.toArray(SuggestionDTO[]::new));
+    }
+
+    /**
+     * Post-order: a node's best entries are the best of its own and its children's
+     */
+    private static void computeTop(BuildNode node, Comparator<Integer> byWeight) {
+        Set<Integer> candidates = new LinkedHashSet<>(node.entries);
+        for (BuildNode child : node.children.values()) {
+            computeTop(child, byWeight);
+            for (int entry : child.top) {
+                candidates.add(entry);
+            }
+        }
+        node.top = candidates.stream()
+                .sorted(byWeight)
+                .limit(MAX_SUGGESTIONS)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private static final class BuildNode {
+        private final TreeMap<Character, BuildNode> children = new TreeMap<>();
+        private final List<Integer> entries = new ArrayList<>();
+        private int[] top;
+        private char label;
+        private int firstChild;
+    }
+}
@@ -0,0 +1,97 @@
+package com.fureverhome.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Lower-cases, splits on anything that is not a letter or digit, drops stop words and
+ * applies a light English suffix stemmer, so "Playful puppies" and "playful puppy"
+ * produce the same terms.
+ */
+public final class TextAnalyzer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "but", "by", "for", "from", "has", "have",
+            "he", "her", "his", "if", "in", "into", "is", "it", "its", "of", "on", "or", "she",
+            "so", "that", "the", "their", "them", "then", "there", "they", "this", "to", "very",
+            "was", "were", "will", "who");
+
+    private TextAnalyzer() {
+    }
+
+    /**
+     * Stemmed, stop-word-free terms in document order
+     */
+    public static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String token : tokenize(text)) {
+            if (!STOP_WORDS.contains(token)) {
+                terms.add(stem(token));
+            }
+        }
+        return terms;
+    }
+
+    public static boolean isStopWord(String token) {
+        return STOP_WORDS.contains(token);
+    }
+
+    /**
+     * Lower-cased tokens without stop-word removal or stemming
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                current.append(Character.toLowerCase(c));
+            } else if (c == '\'') {
+                // "dog's" -> "dogs" -> "dog"
+                continue;
+            } else if (current.length() > 0) {
+                tokens.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (current.length() > 0) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+
+    /**
+     * Conservative suffix stripping (plurals, -ing, -ly, -ness, -ful). Never leaves a
+     * stem shorter than three characters.
+     */
+    public static String stem(String term) {
+        if (term.length() <= 3 || !Character.isLetter(term.charAt(term.length() - 1))) {
+            return term;
+        }
+        String stem = term;
+        if (stem.endsWith("ies") && stem.length() > 4) {
+            stem = stem.substring(0, stem.length() - 3) + "y";
+        } else if (stem.endsWith("sses")) {
+            stem = stem.substring(0, stem.length() - 2);
+        } else if (stem.endsWith("s") && !stem.endsWith("ss") && !stem.endsWith("us")) {
+            stem = stem.substring(0, stem.length() - 1);
+        }
+
+        for (String suffix : new String[] {"ness", "ful", "ing", "ly"}) {
+            if (stem.endsWith(suffix) && stem.length() - suffix.length() >= 3) {
+                stem = stem.substring(0, stem.length() - suffix.length());
+                // "running" -> "runn" -> "run"
+                int n = stem.length();
+                if (n >= 4 && stem.charAt(n - 1) == stem.charAt(n - 2) && "lsz".indexOf(stem.charAt(n - 1)) < 0) {
+                    stem = stem.substring(0, n - 1);
+                }
+                break;
+            }
+        }
+        return stem;
+    }
+}
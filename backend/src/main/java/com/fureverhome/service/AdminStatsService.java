@@ -0,0 +1,120 @@
+package com.fureverhome.service;
+
+import com.fureverhome.dto.AdminStatsDTO;
+import com.fureverhome.dto.StatsPeriod;
+import com.fureverhome.model.AdoptionRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Aggregates for the admin dashboard. Every figure comes from one UNION ALL of GROUP BY
+ * queries, so the database does the counting and only a few dozen rows come back; the
+ * result is cached for a short while per (period, window).
+ */
+@Service
+public class AdminStatsService {
+
+    public static final int TOP_BREEDS = 5;
+
+    private static final String STATS_SQL =
+            "SELECT 'dogs' AS kind, CAST(available AS VARCHAR) AS label, COUNT(*) AS n " +
+            "FROM dogs GROUP BY available " +
+            "UNION ALL " +
+            "SELECT 'status', status, COUNT(*) FROM adoption_requests GROUP BY status " +
+            "UNION ALL " +
+            "SELECT 'period', CAST(CAST(date_trunc(?, created_at) AS DATE) AS VARCHAR), COUNT(*) " +
+            "FROM adoption_requests WHERE created_at >= ? GROUP BY 2 " +
+            "UNION ALL " +
+            "(SELECT 'breed', breed, COUNT(*) FROM dogs GROUP BY breed ORDER BY 3 DESC, 2 LIMIT ?)";
+
+    private static final Comparator<AdminStatsDTO.BreedCount> MOST_DOGS_FIRST = Comparator
+            .comparingLong(AdminStatsDTO.BreedCount::getDogs).reversed()
+            .thenComparing(AdminStatsDTO.BreedCount::getBreed);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long ttlNanos;
+
+    private final Map<String, Cached> cache = new ConcurrentHashMap<>();
+
+    private record Cached(AdminStatsDTO stats, long expiresAtNanos) {
+    }
+
+    public AdminStatsService(JdbcTemplate jdbcTemplate,
+                             @Value("${admin.stats.cache-ttl:PT30S}") Duration ttl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * Dashboard figures, with request counts for the last {@code window} days bucketed by {@code period}
+     */
+    public AdminStatsDTO getStats(StatsPeriod period, int window) {
+        String key = period + ":" + window;
+        long now = System.nanoTime();
+        Cached cached = cache.get(key);
+        if (cached != null && now - cached.expiresAtNanos() < 0) {
+            return cached.stats();
+        }
+        AdminStatsDTO stats = compute(period, window);
+        cache.put(key, new Cached(stats, now + ttlNanos));
+        return stats;
+    }
+
+    private AdminStatsDTO compute(StatsPeriod period, int window) {
+        LocalDate today = LocalDate.now();
+        LocalDate first = bucketStart(period, today.minusDays(window - 1L));
+
+        Map<Boolean, Long> dogs = new HashMap<>();
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        for (AdoptionRequest.Status status : AdoptionRequest.Status.values()) {
+            byStatus.put(status.name(), 0L);
+        }
+        Map<LocalDate, Long> byPeriod = new HashMap<>();
+        List<AdminStatsDTO.BreedCount> breeds = new ArrayList<>();
+
+        jdbcTemplate.query(STATS_SQL, rs -> {
+            String label = rs.getString("label");
+            long n = rs.getLong("n");
+            switch (rs.getString("kind")) {
+                case "dogs" -> dogs.put(Boolean.parseBoolean(label), n);
+                case "status" -> byStatus.put(label, n);
+                case "period" -> byPeriod.put(LocalDate.parse(label), n);
+                default -> breeds.add(new AdminStatsDTO.BreedCount(label, n));
+            }
+        }, period.name().toLowerCase(), Timestamp.valueOf(first.atStartOfDay()), TOP_BREEDS);
+
+        List<AdminStatsDTO.PeriodCount> requests = new ArrayList<>();
+        for (LocalDate start = first; !start.isAfter(today); start = next(period, start)) {
+            requests.add(new AdminStatsDTO.PeriodCount(start, byPeriod.getOrDefault(start, 0L)));
+        }
+        breeds.sort(MOST_DOGS_FIRST);
+
+        long available = dogs.getOrDefault(true, 0L);
+        long adopted = dogs.getOrDefault(false, 0L);
+        return new AdminStatsDTO(available + adopted, available, adopted, byStatus, period, requests, breeds,
+                LocalDateTime.now());
+    }
+
+    private static LocalDate bucketStart(StatsPeriod period, LocalDate day) {
+        return period == StatsPeriod.WEEK ? day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)) : day;
+    }
+
+    private static LocalDate next(StatsPeriod period, LocalDate start) {
+        return period == StatsPeriod.WEEK ? start.plusWeeks(1) : start.plusDays(1);
+    }
+}
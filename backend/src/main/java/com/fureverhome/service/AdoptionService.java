@@ -1,8 +1,12 @@
 package com.fureverhome.service;
 
+import com.fureverhome.dto.AdoptionPage;
 import com.fureverhome.dto.AdoptionRequestDTO;
 import com.fureverhome.dto.AdoptionResponse;
 import com.fureverhome.dto.AdoptionStatusUpdateDTO;
+import com.fureverhome.event.DogChangedEvent;
+import com.fureverhome.event.DogEngagementEvent;
+import com.fureverhome.exception.ConflictException;
 import com.fureverhome.model.AdoptionRequest;
 import com.fureverhome.model.Dog;
 import com.fureverhome.model.User;
@@ -10,13 +14,18 @@ import com.fureverhome.repository.AdoptionRequestRepository;
 import com.fureverhome.repository.DogRepository;
 import com.fureverhome.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +34,9 @@ public class AdoptionService {
     private final AdoptionRequestRepository adoptionRequestRepository;
     private final DogRepository dogRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
 
     @Transactional
     public AdoptionRequest createAdoptionRequest(AdoptionRequestDTO dto) {
@@ -57,34 +69,39 @@ public class AdoptionService {
         request.setHasOtherPets(dto.getHasOtherPets());
         request.setPetExperience(dto.getPetExperience());
 
-        return adoptionRequestRepository.save(request);
+        AdoptionRequest saved = adoptionRequestRepository.save(request);
+        eventPublisher.publishEvent(DogEngagementEvent.of(dog.getId(), DogEngagementEvent.Type.ADOPTION_REQUESTED));
+        return saved;
     }
 
+    /**
+     * Every request (optionally one status), newest first, in a single statement
+     */
     @Transactional(readOnly = true)
-    public List<AdoptionResponse> getAllAdoptionRequests() {
-        return adoptionRequestRepository.findAll().stream()
-                .map(AdoptionResponse::fromEntity)
-                .collect(Collectors.toList());
+    public List<AdoptionResponse> getAllAdoptionRequests(AdoptionRequest.Status status) {
+        return adoptionRequestRepository.findResponses(status, Pageable.unpaged(NEWEST_FIRST)).getContent();
     }
 
     @Transactional(readOnly = true)
-    public List<AdoptionResponse> getUserAdoptionRequests(Long userId) {
-        return adoptionRequestRepository.findByUserId(userId).stream()
-                .map(AdoptionResponse::fromEntity)
-                .collect(Collectors.toList());
+    public AdoptionPage getAdoptionRequestPage(AdoptionRequest.Status status, int page, int size) {
+        return toPage(adoptionRequestRepository.findResponses(status, PageRequest.of(page, size, NEWEST_FIRST)));
     }
 
     @Transactional(readOnly = true)
-    public List<AdoptionResponse> getCurrentUserRequests() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
+    public List<AdoptionResponse> getUserAdoptionRequests(Long userId, AdoptionRequest.Status status) {
+        return adoptionRequestRepository.findResponsesByUserId(userId, status, Pageable.unpaged(NEWEST_FIRST))
+                .getContent();
+    }
 
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    @Transactional(readOnly = true)
+    public List<AdoptionResponse> getCurrentUserRequests(AdoptionRequest.Status status) {
+        return getUserAdoptionRequests(getCurrentUser().getId(), status);
+    }
 
-        return adoptionRequestRepository.findByUserId(user.getId()).stream()
-                .map(AdoptionResponse::fromEntity)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public AdoptionPage getCurrentUserRequestPage(AdoptionRequest.Status status, int page, int size) {
+        return toPage(adoptionRequestRepository.findResponsesByUserId(getCurrentUser().getId(), status,
+                PageRequest.of(page, size, NEWEST_FIRST)));
     }
 
     @Transactional(readOnly = true)
@@ -96,17 +113,38 @@ public class AdoptionService {
     @Transactional
     public AdoptionResponse updateAdoptionStatus(Long id, AdoptionStatusUpdateDTO dto) {
         AdoptionRequest request = getAdoptionRequestById(id);
+        if (dto.getStatus() == AdoptionRequest.Status.APPROVED) {
+            return approve(request);
+        }
         request.setStatus(dto.getStatus());
+        AdoptionRequest savedRequest = adoptionRequestRepository.save(request);  // version-checked on flush
+        return AdoptionResponse.fromEntity(savedRequest);
+    }
 
-        // If approved, mark dog as unavailable
-        if (dto.getStatus() == AdoptionRequest.Status.APPROVED) {
-            Dog dog = request.getDog();
-            dog.setAvailable(false);
-            dogRepository.save(dog);
+    /**
+     * Claim the dog, approve the request and reject every other pending request for the dog,
+     * all in one transaction. The dog is claimed first: it is the row every competing approval
+     * of that dog waits on, so the losers fail with a conflict instead of deadlocking.
+     */
+    private AdoptionResponse approve(AdoptionRequest request) {
+        Long dogId = request.getDog().getId();
+        LocalDateTime now = LocalDateTime.now();
+        if (request.getStatus() == AdoptionRequest.Status.APPROVED) {
+            throw new ConflictException("Adoption request is already approved");
+        }
+        if (dogRepository.claimForAdoption(dogId, now) == 0) {
+            throw new ConflictException("Dog has already been adopted or is not available");
         }
+        if (adoptionRequestRepository.approveIfUnchanged(request.getId(), request.getVersion(), now) == 0) {
+            throw new ConflictException("Adoption request was changed by someone else. Please reload and try again.");
+        }
+        int rejected = adoptionRequestRepository.rejectOtherPendingRequests(dogId, request.getId(), now);
+        System.out.println("Approved adoption request " + request.getId() + " for dog " + dogId
+                + ", rejected " + rejected + " competing requests");
 
-        AdoptionRequest savedRequest = adoptionRequestRepository.save(request);
-        return AdoptionResponse.fromEntity(savedRequest);
+        eventPublisher.publishEvent(DogChangedEvent.saved(dogId));
+        return adoptionRequestRepository.findResponseById(request.getId())
+                .orElseThrow(() -> new RuntimeException("Adoption request not found with id: " + request.getId()));
     }
 
     @Transactional
@@ -114,4 +152,14 @@ public class AdoptionService {
         AdoptionRequest request = getAdoptionRequestById(id);
         adoptionRequestRepository.delete(request);
     }
+
+    private User getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return userRepository.findByEmail(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+    }
+
+    private static AdoptionPage toPage(Page<AdoptionResponse> page) {
+        return new AdoptionPage(page.getContent(), page.getNumber(), page.getSize(), page.getTotalElements());
+    }
 }
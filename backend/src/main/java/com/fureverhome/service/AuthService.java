@@ -6,6 +6,7 @@ import com.fureverhome.dto.RegisterRequest;
 import com.fureverhome.model.User;
 import com.fureverhome.repository.UserRepository;
 import com.fureverhome.security.JwtTokenProvider;
+import com.fureverhome.storage.ImageUrls;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -50,8 +51,8 @@ public class AuthService {
 
         // Generate avatar URL if avatar exists
         String avatarUrl = null;
-        if (savedUser.getAvatar() != null && savedUser.getAvatar().length > 0) {
-            avatarUrl = "/api/avatars/" + savedUser.getId();
+        if (savedUser.hasAvatar()) {
+            avatarUrl = ImageUrls.avatar(savedUser.getId(), savedUser.getAvatarVersion());
         }
 
         return new AuthResponse(token, savedUser.getId(), savedUser.getUsername(),
@@ -73,8 +74,8 @@ public class AuthService {
 
         // Generate avatar URL if avatar exists
         String avatarUrl = null;
-        if (user.getAvatar() != null && user.getAvatar().length > 0) {
-            avatarUrl = "/api/avatars/" + user.getId();
+        if (user.hasAvatar()) {
+            avatarUrl = ImageUrls.avatar(user.getId(), user.getAvatarVersion());
         }
 
         return new AuthResponse(token, user.getId(), user.getUsername(), user.getEmail(),
@@ -0,0 +1,77 @@
+package com.fureverhome.service;
+
+import com.fureverhome.storage.Blob;
+import com.fureverhome.storage.BlobStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Deletes blobs no row references any more: replaced or deleted dog photos, their old
+ * variants, replaced avatars. Content is shared by hash, so a blob can only go once every
+ * table has let go of it; the periodic sweep checks them all at once instead of each
+ * write path trying to.
+ *
+ * Blobs written within the grace period are kept, since an upload stores its blob before
+ * the row that references it commits (re-storing identical content refreshes the time).
+ */
+@Service
+public class BlobCleanupService {
+
+    private static final String REFERENCED_SQL =
+            "SELECT sha256 FROM dog_images " +
+            "UNION SELECT sha256 FROM dog_image_variants " +
+            "UNION SELECT sha256 FROM user_avatars " +
+            "UNION SELECT image_sha256 FROM dogs WHERE image_sha256 IS NOT NULL";
+
+    private final BlobStore blobStore;
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration grace;
+
+    public BlobCleanupService(BlobStore blobStore, JdbcTemplate jdbcTemplate,
+                              @Value("${storage.blob.gc.grace:PT1H}") Duration grace) {
+        this.blobStore = blobStore;
+        this.jdbcTemplate = jdbcTemplate;
+        this.grace = grace;
+    }
+
+    /**
+     * Returns how many blobs were deleted
+     */
+    @Scheduled(cron = "${storage.blob.gc.cron:0 15 * * * *}")
+    public synchronized int deleteUnreferencedBlobs() {
+        // Cutoff first: anything written after it is skipped, whatever the query below misses
+        Instant cutoff = Instant.now().minus(grace);
+        Set<String> referenced = new HashSet<>(jdbcTemplate.queryForList(REFERENCED_SQL, String.class));
+
+        int deleted = 0;
+        long freedBytes = 0;
+        try (Stream<BlobStore.StoredBlob> blobs = blobStore.list()) {
+            for (Iterator<BlobStore.StoredBlob> it = blobs.iterator(); it.hasNext(); ) {
+                BlobStore.StoredBlob blob = it.next();
+                if (referenced.contains(blob.sha256()) || blob.storedAt().isAfter(cutoff)) {
+                    continue;
+                }
+                long size = blobStore.open(blob.sha256()).map(Blob::getSize).orElse(0L);
+                blobStore.delete(blob.sha256());
+                deleted++;
+                freedBytes += size;
+            }
+        } catch (IOException e) {
+            System.err.println("Blob cleanup stopped early: " + e.getMessage());
+        }
+        if (deleted > 0) {
+            System.out.println("Deleted " + deleted + " unreferenced blobs (" + freedBytes + " bytes)");
+        }
+        return deleted;
+    }
+}
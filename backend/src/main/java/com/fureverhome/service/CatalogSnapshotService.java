@@ -0,0 +1,161 @@
+package com.fureverhome.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fureverhome.dto.DogSummary;
+import com.fureverhome.event.CatalogReloadedEvent;
+import com.fureverhome.event.DogChangedEvent;
+import com.fureverhome.repository.DogRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the available-dog catalog (GET /dogs?available=true) as ready-to-write JSON bytes
+ * plus a gzipped copy, so the most-hit endpoint neither queries nor serializes per request.
+ * Any committed DogChangedEvent triggers an asynchronous rebuild; bursts of changes
+ * collapse into as few rebuilds as possible.
+ */
+@Service
+@RequiredArgsConstructor
+public class CatalogSnapshotService {
+
+    private final DogRepository dogRepository;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final AtomicBoolean building = new AtomicBoolean();
+    private volatile Snapshot snapshot;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Snapshot {
+        private final byte[] json;
+        private final byte[] gzip;
+        private final String etag;       // content hash, without quotes
+        private final Instant lastModified;
+    }
+
+    public Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            requestRebuild();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        requestRebuild();
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDogChanged(DogChangedEvent event) {
+        requestRebuild();
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogReloaded(CatalogReloadedEvent event) {
+        requestRebuild();
+    }
+
+    /**
+     * Retry a rebuild that failed; otherwise the stale snapshot and its ETag would be
+     * served until the next dog change
+     */
+    @Scheduled(fixedDelayString = "${catalog.snapshot.retry-interval-ms:5000}")
+    public void retryIfDirty() {
+        if (dirty.get()) {
+            requestRebuild();
+        }
+    }
+
+    /**
+     * Mark the snapshot stale and rebuild it unless another thread is already rebuilding;
+     * that thread will see the dirty flag and go round again.
+     */
+    private void requestRebuild() {
+        dirty.set(true);
+        while (dirty.get() && building.compareAndSet(false, true)) {
+            try {
+                while (dirty.getAndSet(false)) {
+                    snapshot = build(snapshot);
+                }
+            } catch (RuntimeException e) {
+                // Still stale: keep the flag so retryIfDirty (or the next change) tries again
+                dirty.set(true);
+                System.err.println("Failed to rebuild catalog snapshot: " + e.getMessage());
+                return;
+            } finally {
+                building.set(false);
+            }
+        }
+    }
+
+    private Snapshot build(Snapshot previous) {
+        List<DogSummary> dogs = dogRepository.findSummariesByAvailable(true);
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(dogs);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        String etag = sha256(json);
+
+        if (previous != null && previous.getEtag().equals(etag)) {
+            return previous;
+        }
+
+        // Deleting a dog can lower MAX(updated_at); Last-Modified must still move forward
+        LocalDateTime latest = dogRepository.findLatestUpdatedAt();
+        Instant lastModified = latest != null
+                ? latest.atZone(ZoneId.systemDefault()).toInstant().truncatedTo(ChronoUnit.SECONDS)
+                : Instant.EPOCH;
+        if (previous != null && !lastModified.isAfter(previous.getLastModified())) {
+            lastModified = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        }
+
+        return new Snapshot(json, gzip(json), etag, lastModified);
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
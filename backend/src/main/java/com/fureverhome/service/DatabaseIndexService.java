@@ -0,0 +1,61 @@
+package com.fureverhome.service;
+
+import com.fureverhome.dto.IndexReportDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Compares the live database against the indexes our migrations are supposed to create,
+ * and lists indexes Postgres has never used since its statistics were last reset.
+ */
+@Service
+@RequiredArgsConstructor
+public class DatabaseIndexService {
+
+    // Created by db/migration/V2__hot_query_indexes.sql
+    private static final List<String> EXPECTED_INDEXES = List.of(
+            "idx_adoption_requests_user_id",
+            "idx_adoption_requests_dog_id",
+            "idx_adoption_requests_status",
+            "idx_favorites_dog_id",
+            "idx_dogs_created_at_id",
+            "idx_dogs_name_id",
+            "idx_dogs_age_id",
+            "idx_dogs_available_created_at_id",
+            "idx_dogs_available_name_id",
+            "idx_dogs_available_age_id",
+            "idx_dogs_breed_lower_prefix",
+            "idx_dogs_health_status");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IndexReportDTO checkIndexes() {
+        Set<String> present = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT indexname FROM pg_indexes WHERE schemaname = current_schema()", String.class));
+        List<String> missing = EXPECTED_INDEXES.stream()
+                .filter(index -> !present.contains(index))
+                .toList();
+
+        // Primary keys and unique constraints are excluded: they enforce integrity even when never scanned
+        List<IndexReportDTO.UnusedIndex> unused = jdbcTemplate.query(
+                "SELECT s.relname, s.indexrelname, pg_relation_size(s.indexrelid) AS size_bytes " +
+                "FROM pg_stat_user_indexes s JOIN pg_index i ON i.indexrelid = s.indexrelid " +
+                "WHERE s.schemaname = current_schema() AND s.idx_scan = 0 " +
+                "AND NOT i.indisunique AND NOT i.indisprimary " +
+                "ORDER BY size_bytes DESC",
+                (rs, rowNum) -> new IndexReportDTO.UnusedIndex(
+                        rs.getString("relname"), rs.getString("indexrelname"), rs.getLong("size_bytes")));
+
+        OffsetDateTime statsSince = jdbcTemplate.queryForObject(
+                "SELECT stats_reset FROM pg_stat_database WHERE datname = current_database()",
+                OffsetDateTime.class);
+
+        return new IndexReportDTO(missing, unused, statsSince);
+    }
+}
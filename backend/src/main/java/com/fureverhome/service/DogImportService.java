@@ -0,0 +1,416 @@
+package com.fureverhome.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fureverhome.dto.DogImportReportDTO;
+import com.fureverhome.dto.DogRequest;
+import com.fureverhome.dto.ExportFormat;
+import com.fureverhome.event.CatalogReloadedEvent;
+import com.fureverhome.model.Dog;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk dog import for partner shelters. The upload is parsed and validated one row at a
+ * time; valid rows are encoded straight into a PostgreSQL COPY stream, invalid ones are
+ * reported by row number and skipped. Everything loads in one transaction, and the
+ * in-memory read models are refreshed once afterwards (CatalogReloadedEvent).
+ */
+@Service
+public class DogImportService {
+
+    private static final String COPY_SQL = "COPY dogs (name, breed, age, gender, description, health_status, "
+            + "image_url, available, created_at, updated_at) FROM STDIN";
+
+    private static final int COPY_CHUNK_CHARS = 64 * 1024;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final int IMAGE_URL_MAX_LENGTH = 255;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public DogImportService(JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            ObjectMapper objectMapper,
+                            Validator validator,
+                            ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public DogImportReportDTO importDogs(ExportFormat format, InputStream in) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        Iterator<Map<String, String>> records = format == ExportFormat.CSV
+                ? new CsvRecords(reader)
+                : new NdjsonRecords(reader, objectMapper);
+        try {
+            DogImportReportDTO report = transactionTemplate.execute(status ->
+                    jdbcTemplate.execute((ConnectionCallback<DogImportReportDTO>) connection ->
+                            copy(connection.unwrap(PGConnection.class), records)));
+            if (report.getImported() > 0) {
+                System.out.println("Bulk import loaded " + report.getImported() + " dogs, rejected "
+                        + report.getRejected());
+            }
+            return report;
+        } catch (UncheckedIOException e) {
+            throw new RuntimeException("Failed to read import: " + e.getCause().getMessage());
+        }
+    }
+
+    /**
+     * Runs inside the import transaction. The event is delivered once it commits.
+     */
+    private DogImportReportDTO copy(PGConnection connection, Iterator<Map<String, String>> records) throws SQLException {
+        DogImportReportDTO report = new DogImportReportDTO();
+        String now = LocalDateTime.now().toString();
+        StringBuilder chunk = new StringBuilder(COPY_CHUNK_CHARS + 1024);
+
+        CopyIn copy = connection.getCopyAPI().copyIn(COPY_SQL);
+        try {
+            long row = 0;
+            while (records.hasNext()) {
+                row++;
+                Map<String, String> fields;
+                try {
+                    fields = records.next();
+                } catch (IllegalArgumentException e) {
+                    reject(report, row, e.getMessage());
+                    continue;
+                }
+                try {
+                    appendCopyRow(chunk, toDogRequest(fields), trimToNull(fields.get("imageurl")), now);
+                } catch (IllegalArgumentException e) {
+                    reject(report, row, e.getMessage());
+                    continue;
+                }
+                if (chunk.length() >= COPY_CHUNK_CHARS) {
+                    writeChunk(copy, chunk);
+                }
+            }
+            writeChunk(copy, chunk);
+            report.setRowsRead(row);
+            report.setImported(copy.endCopy());
+        } finally {
+            if (copy.isActive()) {
+                copy.cancelCopy();
+            }
+        }
+
+        if (report.getImported() > 0) {
+            eventPublisher.publishEvent(new CatalogReloadedEvent(report.getImported()));
+        }
+        return report;
+    }
+
+    /**
+     * Same rules as the single-dog form (DogRequest), with defaults for optional columns
+     */
+    private DogRequest toDogRequest(Map<String, String> fields) {
+        DogRequest request = new DogRequest();
+        request.setName(trimToNull(fields.get("name")));
+        request.setBreed(trimToNull(fields.get("breed")));
+        request.setAge(parseAge(trimToNull(fields.get("age"))));
+        request.setGender(parseGender(trimToNull(fields.get("gender"))));
+        request.setDescription(trimToNull(fields.get("description")));
+        String healthStatus = trimToNull(fields.get("healthstatus"));
+        request.setHealthStatus(healthStatus != null ? healthStatus : "Healthy");
+        String available = trimToNull(fields.get("available"));
+        request.setAvailable(available == null || parseBoolean(available));
+
+        Set<ConstraintViolation<DogRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        return request;
+    }
+
+    private static void appendCopyRow(StringBuilder chunk, DogRequest dog, String imageUrl, String now) {
+        if (imageUrl != null && imageUrl.length() > IMAGE_URL_MAX_LENGTH) {
+            throw new IllegalArgumentException("Image URL cannot exceed " + IMAGE_URL_MAX_LENGTH + " characters");
+        }
+        appendCopyField(chunk, dog.getName()).append('\t');
+        appendCopyField(chunk, dog.getBreed()).append('\t');
+        chunk.append(dog.getAge()).append('\t');
+        chunk.append(dog.getGender().name()).append('\t');
+        appendCopyField(chunk, dog.getDescription()).append('\t');
+        appendCopyField(chunk, dog.getHealthStatus()).append('\t');
+        appendCopyField(chunk, imageUrl).append('\t');
+        chunk.append(dog.getAvailable() ? 't' : 'f').append('\t');
+        chunk.append(now).append('\t');
+        chunk.append(now).append('\n');
+    }
+
+    /**
+     * COPY text format: \N is NULL; backslash, tab and line breaks are backslash-escaped
+     */
+    private static StringBuilder appendCopyField(StringBuilder chunk, String value) {
+        if (value == null) {
+            return chunk.append("\\N");
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> chunk.append("\\\\");
+                case '\t' -> chunk.append("\\t");
+                case '\n' -> chunk.append("\\n");
+                case '\r' -> chunk.append("\\r");
+                default -> chunk.append(c);
+            }
+        }
+        return chunk;
+    }
+
+    private static void writeChunk(CopyIn copy, StringBuilder chunk) throws SQLException {
+        if (chunk.length() == 0) {
+            return;
+        }
+        byte[] bytes = chunk.toString().getBytes(StandardCharsets.UTF_8);
+        copy.writeToCopy(bytes, 0, bytes.length);
+        chunk.setLength(0);
+    }
+
+    private static void reject(DogImportReportDTO report, long row, String message) {
+        report.setRejected(report.getRejected() + 1);
+        if (report.getErrors().size() < MAX_REPORTED_ERRORS) {
+            report.getErrors().add(new DogImportReportDTO.RowError(row, message));
+        } else {
+            report.setErrorsTruncated(true);
+        }
+    }
+
+    private static Integer parseAge(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Age must be a whole number: " + value);
+        }
+    }
+
+    private static Dog.Gender parseGender(String value) {
+        if (value == null) {
+            return null;
+        }
+        for (Dog.Gender gender : Dog.Gender.values()) {
+            if (gender.name().equalsIgnoreCase(value)) {
+                return gender;
+            }
+        }
+        throw new IllegalArgumentException("Gender must be MALE or FEMALE: " + value);
+    }
+
+    private static boolean parseBoolean(String value) {
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "true", "yes", "1" -> true;
+            case "false", "no", "0" -> false;
+            default -> throw new IllegalArgumentException("Available must be true or false: " + value);
+        };
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    /**
+     * Column and field names match loosely: "healthStatus", "health_status" and
+     * "Health Status" are the same column, so an export can be imported back.
+     */
+    private static String normalizeColumn(String name) {
+        StringBuilder normalized = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * One JSON object per non-blank line. A malformed line fails only its own row.
+     */
+    private static final class NdjsonRecords implements Iterator<Map<String, String>> {
+        private final BufferedReader reader;
+        private final ObjectMapper objectMapper;
+        private String line;
+
+        private NdjsonRecords(BufferedReader reader, ObjectMapper objectMapper) {
+            this.reader = reader;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                while (line == null) {
+                    line = reader.readLine();
+                    if (line == null) {
+                        return false;
+                    }
+                    if (line.isBlank()) {
+                        line = null;
+                    }
+                }
+                return true;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public Map<String, String> next() {
+            hasNext();
+            String current = line;
+            line = null;
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(current);
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Invalid JSON");
+            }
+            if (node == null || !node.isObject()) {
+                throw new IllegalArgumentException("Expected a JSON object");
+            }
+            Map<String, String> fields = new HashMap<>();
+            node.fields().forEachRemaining(field -> fields.put(normalizeColumn(field.getKey()),
+                    field.getValue().isNull() ? null : field.getValue().asText()));
+            return fields;
+        }
+    }
+
+    /**
+     * RFC 4180 records keyed by the header row. Quoted fields may contain separators,
+     * doubled quotes and line breaks; blank lines are skipped.
+     */
+    private static final class CsvRecords implements Iterator<Map<String, String>> {
+        private final BufferedReader reader;
+        private List<String> columns;
+        private List<String> record;
+        private boolean done;
+
+        private CsvRecords(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                if (columns == null) {
+                    List<String> header = readRecord();
+                    if (header == null) {
+                        done = true;
+                        return false;
+                    }
+                    columns = header.stream().map(DogImportService::normalizeColumn).toList();
+                }
+                while (record == null && !done) {
+                    record = readRecord();
+                    if (record == null) {
+                        done = true;
+                    } else if (record.size() == 1 && record.get(0).isEmpty()) {
+                        record = null;
+                    }
+                }
+                return record != null;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public Map<String, String> next() {
+            hasNext();
+            List<String> current = record;
+            record = null;
+            if (current.size() != columns.size()) {
+                throw new IllegalArgumentException("Expected " + columns.size() + " fields but found " + current.size());
+            }
+            Map<String, String> fields = new HashMap<>();
+            for (int i = 0; i < columns.size(); i++) {
+                fields.put(columns.get(i), current.get(i));
+            }
+            return fields;
+        }
+
+        /**
+         * Next record, or null at end of input
+         */
+        private List<String> readRecord() throws IOException {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean any = false;
+            int c;
+            while ((c = reader.read()) != -1) {
+                any = true;
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        if (reader.read() == '"') {
+                            field.append('"');
+                        } else {
+                            reader.reset();
+                            quoted = false;
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+            }
+            if (!any) {
+                return null;
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.fureverhome.service;
+
+import com.fureverhome.dto.SearchHitDTO;
+import com.fureverhome.dto.SearchIndexStatsDTO;
+import com.fureverhome.dto.SuggestionDTO;
+import com.fureverhome.event.CatalogReloadedEvent;
+import com.fureverhome.event.DogChangedEvent;
+import com.fureverhome.repository.DogRepository;
+import com.fureverhome.search.FullTextIndex;
+import com.fureverhome.search.SearchDocument;
+import com.fureverhome.search.SuggestionIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Keeps the in-memory full-text index and typeahead suggestions in step with the dogs
+ * table: a full build once the application is ready, then one document per committed
+ * DogChangedEvent.
+ */
+@Service
+@RequiredArgsConstructor
+public class DogSearchService {
+
+    private final DogRepository dogRepository;
+    private final FullTextIndex fullTextIndex;
+    private final SuggestionIndex suggestionIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndexes() {
+        List<SearchDocument> documents = dogRepository.findAllSearchDocuments();
+        fullTextIndex.rebuild(documents);
+        suggestionIndex.rebuild(documents);
+        System.out.println("Search indexes built: " + documents.size() + " dogs, full-text in "
+                + fullTextIndex.getStats().getLastRebuildMillis() + " ms");
+    }
+
+    /**
+     * Runs after commit, so the index never sees rolled-back writes
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDogChanged(DogChangedEvent event) {
+        SearchDocument document = event.getType() == DogChangedEvent.Type.DELETED
+                ? null
+                : dogRepository.findSearchDocument(event.getDogId()).orElse(null);
+        if (document == null) {
+            fullTextIndex.delete(event.getDogId());
+            suggestionIndex.delete(event.getDogId());
+        } else {
+            fullTextIndex.upsert(document);
+            suggestionIndex.upsert(document);
+        }
+    }
+
+    /**
+     * Bulk changes rebuild both structures once instead of replaying every row
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogReloaded(CatalogReloadedEvent event) {
+        buildIndexes();
+    }
+
+    /**
+     * Suggestion counts change on every write; the trie is rebuilt at most once per interval
+     */
+    @Scheduled(fixedDelayString = "${search.suggest.refresh-interval-ms:1000}")
+    public void refreshSuggestions() {
+        suggestionIndex.refreshIfDirty();
+    }
+
+    public List<SearchHitDTO> search(String query, int limit, boolean availableOnly) {
+        return fullTextIndex.search(query, limit, availableOnly);
+    }
+
+    public List<SuggestionDTO> suggest(String query, int limit) {
+        return suggestionIndex.suggest(query, limit);
+    }
+
+    public SearchIndexStatsDTO getIndexStats() {
+        SearchIndexStatsDTO stats = fullTextIndex.getStats();
+        stats.setSuggestionNodes(suggestionIndex.nodeCount());
+        stats.setSuggestionEstimatedBytes(suggestionIndex.estimatedBytes());
+        return stats;
+    }
+}
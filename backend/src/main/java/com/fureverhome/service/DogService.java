@@ -1,14 +1,29 @@
 package com.fureverhome.service;
 
+import com.fureverhome.dto.DogCursor;
+import com.fureverhome.dto.DogPage;
 import com.fureverhome.dto.DogRequest;
+import com.fureverhome.dto.DogSearchCriteria;
+import com.fureverhome.dto.DogSort;
+import com.fureverhome.dto.DogSummary;
+import com.fureverhome.event.DogChangedEvent;
+import com.fureverhome.event.DogImageStoredEvent;
 import com.fureverhome.model.Dog;
+import com.fureverhome.model.DogImage;
+import com.fureverhome.repository.DogImageRepository;
+import com.fureverhome.repository.DogImageVariantRepository;
 import com.fureverhome.repository.DogRepository;
+import com.fureverhome.storage.ImageCache;
+import com.fureverhome.storage.ImageUploader;
+import com.fureverhome.storage.UploadedImage;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @Service
@@ -16,15 +31,41 @@ import java.util.List;
 public class DogService {
 
     private final DogRepository dogRepository;
+    private final DogImageRepository dogImageRepository;
+    private final DogImageVariantRepository dogImageVariantRepository;
+    private final ImageCache imageCache;
+    private final ImageUploader imageUploader;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
-    public List<Dog> getAllDogs() {
-        return dogRepository.findAll();
+    public List<DogSummary> getAllDogs() {
+        return dogRepository.findAllSummaries();
     }
 
     @Transactional(readOnly = true)
-    public List<Dog> getAvailableDogs() {
-        return dogRepository.findByAvailable(true);
+    public List<DogSummary> getAvailableDogs() {
+        return dogRepository.findSummariesByAvailable(true);
+    }
+
+    /**
+     * One page of the dogs matching the criteria. Fetches a single extra row to know whether
+     * another page exists.
+     */
+    @Transactional(readOnly = true)
+    public DogPage searchDogs(DogSearchCriteria criteria, DogSort sort, String cursor, int limit) {
+        if (criteria.getMinAge() != null && criteria.getMaxAge() != null && criteria.getMinAge() > criteria.getMaxAge()) {
+            throw new IllegalArgumentException("minAge must not be greater than maxAge");
+        }
+        DogCursor after = cursor != null && !cursor.isBlank() ? DogCursor.decode(cursor, sort) : null;
+        List<DogSummary> dogs = dogRepository.search(criteria, sort, after, limit + 1);
+
+        String nextCursor = null;
+        if (dogs.size() > limit) {
+            dogs = dogs.subList(0, limit);
+            DogSummary last = dogs.get(limit - 1);
+            nextCursor = DogCursor.after(sort, last.getCreatedAt(), last.getName(), last.getAge(), last.getId()).encode();
+        }
+        return new DogPage(dogs, nextCursor);
     }
 
     @Transactional(readOnly = true)
@@ -44,6 +85,8 @@ public class DogService {
         dog.setHealthStatus(request.getHealthStatus());
         dog.setAvailable(request.getAvailable());
 
+        Dog savedDog = dogRepository.save(dog);
+
         // Handle image upload
         if (image != null && !image.isEmpty()) {
             try {
@@ -52,10 +95,11 @@ public class DogService {
                 System.out.println("Image size: " + image.getSize());
                 System.out.println("Image content type: " + image.getContentType());
 
-                dog.setImage(image.getBytes());
-                dog.setImageContentType(image.getContentType());
+                try (InputStream content = image.getInputStream()) {
+                    storeImage(savedDog, content);
+                }
 
-                System.out.println("Dog image stored in database");
+                System.out.println("Dog image stored in blob store");
             } catch (IOException e) {
                 System.err.println("Failed to upload dog image: " + e.getMessage());
                 e.printStackTrace();
@@ -63,7 +107,8 @@ public class DogService {
             }
         }
 
-        return dogRepository.save(dog);
+        eventPublisher.publishEvent(DogChangedEvent.saved(savedDog.getId()));
+        return savedDog;
     }
 
     @Transactional
@@ -86,10 +131,11 @@ public class DogService {
                 System.out.println("Image filename: " + image.getOriginalFilename());
                 System.out.println("Image size: " + image.getSize());
 
-                dog.setImage(image.getBytes());
-                dog.setImageContentType(image.getContentType());
+                try (InputStream content = image.getInputStream()) {
+                    storeImage(dog, content);
+                }
 
-                System.out.println("Dog image updated in database");
+                System.out.println("Dog image updated in blob store");
             } catch (IOException e) {
                 System.err.println("Failed to update dog image: " + e.getMessage());
                 e.printStackTrace();
@@ -97,18 +143,86 @@ public class DogService {
             }
         }
 
-        return dogRepository.save(dog);
+        Dog savedDog = dogRepository.save(dog);
+        eventPublisher.publishEvent(DogChangedEvent.saved(id));
+        return savedDog;
+    }
+
+    /**
+     * Point the dog at an externally hosted image instead of an uploaded one
+     */
+    @Transactional
+    public Dog updateImageUrl(Long id, String imageUrl) {
+        Dog dog = getDogById(id);
+        dog.setImageUrl(imageUrl);
+        Dog savedDog = dogRepository.save(dog);
+        eventPublisher.publishEvent(DogChangedEvent.saved(id));
+        return savedDog;
     }
 
     @Transactional
     public void deleteDog(Long id) {
         Dog dog = getDogById(id);
+        evictCachedImages(id);
+        dogImageVariantRepository.deleteByDogId(id);
+        if (dogImageRepository.existsById(id)) {
+            dogImageRepository.deleteById(id);
+        }
         dogRepository.delete(dog);
+        eventPublisher.publishEvent(DogChangedEvent.deleted(id));
     }
 
-    @Transactional(readOnly = true)
-    public List<Dog> searchByBreed(String breed) {
-        return dogRepository.findByBreedContainingIgnoreCase(breed);
+    /**
+     * Replace a dog's image from a raw request body, streamed straight into the blob store
+     */
+    @Transactional
+    public Dog replaceImage(Long id, InputStream content) {
+        Dog dog = getDogById(id);
+        try {
+            storeImage(dog, content);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to update dog image: " + e.getMessage());
+        }
+        Dog savedDog = dogRepository.save(dog);
+        eventPublisher.publishEvent(DogChangedEvent.saved(id));
+        return savedDog;
     }
-}
 
+    /**
+     * Stream the uploaded bytes into the blob store and record their metadata on the dog.
+     * Variants are generated by {@link ImageVariantService} once the transaction commits.
+     */
+    private void storeImage(Dog dog, InputStream content) throws IOException {
+        evictCachedImages(dog.getId());
+
+        UploadedImage upload = imageUploader.store(content);
+
+        DogImage dogImage = dogImageRepository.findById(dog.getId()).orElseGet(DogImage::new);
+        if (!upload.getSha256().equals(dogImage.getSha256())) {
+            // The old variants show the old photo; drop them until the new ones are generated
+            dogImageVariantRepository.deleteByDogId(dog.getId());
+        }
+        dogImage.setDogId(dog.getId());
+        dogImage.setContentType(upload.getContentType());
+        dogImage.setSize(upload.getSize());
+        dogImage.setSha256(upload.getSha256());
+        dogImage.setVariantsFailedAt(null);
+        dogImage.setVariantsError(null);
+        dogImageRepository.save(dogImage);
+
+        dog.setHasImage(true);
+        dog.setImageContentType(upload.getContentType());
+        dog.setImageSize(upload.getSize());
+        dog.setImageSha256(upload.getSha256());
+
+        eventPublisher.publishEvent(new DogImageStoredEvent(dog.getId(), upload.getSha256()));
+    }
+
+    /**
+     * Drop the dog's current image and its variants from the in-memory image cache
+     */
+    private void evictCachedImages(Long dogId) {
+        dogImageRepository.findById(dogId).ifPresent(image -> imageCache.evict(image.getSha256()));
+        dogImageVariantRepository.findByDogId(dogId).forEach(variant -> imageCache.evict(variant.getSha256()));
+    }
+}
@@ -0,0 +1,190 @@
+package com.fureverhome.service;
+
+import com.fureverhome.dto.DogEngagementDTO;
+import com.fureverhome.event.DogEngagementEvent;
+import jakarta.annotation.PreDestroy;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-dog views, favorites and adoption requests, rolled up per hour in dog_engagement_hourly.
+ *
+ * Recording only bumps a {@link LongAdder} for the (dog, minute) bucket; no database work
+ * happens on the request path. A scheduled flush sums the closed minutes per hour and adds
+ * them to the rollup rows in one batched upsert, so reports lag by about a flush interval.
+ */
+@Service
+public class EngagementService {
+
+    private static final long MILLIS_PER_MINUTE = 60_000;
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO dog_engagement_hourly (dog_id, hour, views, favorites, adoption_requests) " +
+            "SELECT ?, ?, ?, ?, ? WHERE EXISTS (SELECT 1 FROM dogs WHERE id = ?) " +
+            "ON CONFLICT (dog_id, hour) DO UPDATE SET " +
+            "views = dog_engagement_hourly.views + EXCLUDED.views, " +
+            "favorites = dog_engagement_hourly.favorites + EXCLUDED.favorites, " +
+            "adoption_requests = dog_engagement_hourly.adoption_requests + EXCLUDED.adoption_requests";
+
+    private static final RowMapper<DogEngagementDTO> ROW_MAPPER = (rs, rowNum) -> {
+        Timestamp hour = rs.getTimestamp("hour");
+        return new DogEngagementDTO(rs.getLong("dog_id"), rs.getString("name"),
+                hour == null ? null : hour.toLocalDateTime(),
+                rs.getLong("views"), rs.getLong("favorites"), rs.getLong("adoption_requests"));
+    };
+
+    // Flushed rows are written in key order so concurrent flushers lock rows in the same order
+    private static final Comparator<HourKey> KEY_ORDER = Comparator
+            .comparingLong(HourKey::dogId)
+            .thenComparing(HourKey::hour);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<Bucket, Counters> buckets = new ConcurrentHashMap<>();
+
+    private record Bucket(long dogId, long minute) {
+    }
+
+    private record HourKey(long dogId, LocalDateTime hour) {
+    }
+
+    private static final class Counters {
+        final LongAdder views = new LongAdder();
+        final LongAdder favorites = new LongAdder();
+        final LongAdder adoptionRequests = new LongAdder();
+    }
+
+    public EngagementService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void recordView(Long dogId) {
+        counters(dogId, currentMinute()).views.increment();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEngagement(DogEngagementEvent event) {
+        Counters counters = counters(event.getDogId(), event.getOccurredAt().toEpochMilli() / MILLIS_PER_MINUTE);
+        if (event.getType() == DogEngagementEvent.Type.ADOPTION_REQUESTED) {
+            counters.adoptionRequests.increment();
+        } else {
+            counters.favorites.increment();
+        }
+    }
+
+    /**
+     * Writes minutes that ended over a minute ago. The grace minute covers requests that
+     * picked their bucket just before the boundary and increment just after it.
+     */
+    @Scheduled(fixedDelayString = "${engagement.flush-interval-ms:60000}",
+            initialDelayString = "${engagement.flush-interval-ms:60000}")
+    public void flush() {
+        flushBefore(currentMinute() - 1);
+    }
+
+    @PreDestroy
+    public void flushAll() {
+        flushBefore(Long.MAX_VALUE);
+    }
+
+    /**
+     * Dogs with the most views since the start of the hour {@code hours - 1} hours ago
+     */
+    public List<DogEngagementDTO> getTopDogs(int hours, int limit) {
+        return jdbcTemplate.query(
+                "SELECT e.dog_id, d.name, NULL AS hour, SUM(e.views) AS views, SUM(e.favorites) AS favorites, " +
+                "SUM(e.adoption_requests) AS adoption_requests " +
+                "FROM dog_engagement_hourly e JOIN dogs d ON d.id = e.dog_id " +
+                "WHERE e.hour >= ? GROUP BY e.dog_id, d.name " +
+                "ORDER BY views DESC, e.dog_id LIMIT ?",
+                ROW_MAPPER, Timestamp.valueOf(windowStart(hours)), limit);
+    }
+
+    /**
+     * One dog's hourly rows over the window, oldest first; hours without activity are omitted
+     */
+    public List<DogEngagementDTO> getDogHistory(Long dogId, int hours) {
+        return jdbcTemplate.query(
+                "SELECT e.dog_id, d.name, e.hour, e.views, e.favorites, e.adoption_requests " +
+                "FROM dog_engagement_hourly e JOIN dogs d ON d.id = e.dog_id " +
+                "WHERE e.dog_id = ? AND e.hour >= ? ORDER BY e.hour",
+                ROW_MAPPER, dogId, Timestamp.valueOf(windowStart(hours)));
+    }
+
+    private Counters counters(long dogId, long minute) {
+        Bucket bucket = new Bucket(dogId, minute);
+        Counters counters = buckets.get(bucket);
+        return counters != null ? counters : buckets.computeIfAbsent(bucket, b -> new Counters());
+    }
+
+    private synchronized void flushBefore(long minute) {
+        Map<HourKey, long[]> totals = new TreeMap<>(KEY_ORDER);
+        for (Iterator<Map.Entry<Bucket, Counters>> it = buckets.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Bucket, Counters> entry = it.next();
+            Bucket bucket = entry.getKey();
+            if (bucket.minute() >= minute) {
+                continue;
+            }
+            it.remove();
+            Counters counters = entry.getValue();
+            long[] sum = totals.computeIfAbsent(new HourKey(bucket.dogId(), hourOf(bucket.minute())), k -> new long[3]);
+            sum[0] += counters.views.sum();
+            sum[1] += counters.favorites.sum();
+            sum[2] += counters.adoptionRequests.sum();
+        }
+        if (totals.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = new ArrayList<>(totals.size());
+        totals.forEach((key, sum) -> rows.add(new Object[]{
+                key.dogId(), Timestamp.valueOf(key.hour()), sum[0], sum[1], sum[2], key.dogId()}));
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+        } catch (DataAccessException e) {
+            // Keep the counts for the next flush; a dog deleted meanwhile is skipped by the EXISTS guard then
+            System.err.println("Engagement flush failed, retrying " + rows.size() + " rows later: " + e.getMessage());
+            totals.forEach((key, sum) -> {
+                Counters counters = counters(key.dogId(), minuteOf(key.hour()));
+                counters.views.add(sum[0]);
+                counters.favorites.add(sum[1]);
+                counters.adoptionRequests.add(sum[2]);
+            });
+        }
+    }
+
+    private static long currentMinute() {
+        return System.currentTimeMillis() / MILLIS_PER_MINUTE;
+    }
+
+    private static LocalDateTime hourOf(long minute) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(minute * MILLIS_PER_MINUTE), ZoneId.systemDefault())
+                .truncatedTo(ChronoUnit.HOURS);
+    }
+
+    private static long minuteOf(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() / MILLIS_PER_MINUTE;
+    }
+
+    private static LocalDateTime windowStart(int hours) {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(hours - 1L);
+    }
+}
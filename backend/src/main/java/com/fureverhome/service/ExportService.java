@@ -0,0 +1,122 @@
+package com.fureverhome.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fureverhome.dto.AdoptionExportRow;
+import com.fureverhome.dto.DogExportRow;
+import com.fureverhome.dto.ExportFormat;
+import com.fureverhome.dto.ExportRow;
+import com.fureverhome.repository.AdoptionRequestRepository;
+import com.fureverhome.repository.DogRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Streams whole tables to the client as NDJSON or CSV. Rows come from a database cursor
+ * (see the repositories' fetch-size hints) and are written as they are read, so memory
+ * stays flat however many rows there are.
+ */
+@Service
+public class ExportService {
+
+    private static final int BUFFER_CHARS = 64 * 1024;
+
+    // Push bytes to the client regularly instead of only when the buffer fills
+    private static final int FLUSH_EVERY_ROWS = 500;
+
+    private final DogRepository dogRepository;
+    private final AdoptionRequestRepository adoptionRequestRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ExportService(DogRepository dogRepository,
+                         AdoptionRequestRepository adoptionRequestRepository,
+                         ObjectMapper objectMapper,
+                         PlatformTransactionManager transactionManager) {
+        this.dogRepository = dogRepository;
+        this.adoptionRequestRepository = adoptionRequestRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public void exportDogs(ExportFormat format, OutputStream out) throws IOException {
+        export(dogRepository::streamExportRows, DogExportRow.COLUMNS, format, out);
+    }
+
+    public void exportAdoptionRequests(ExportFormat format, OutputStream out) throws IOException {
+        export(adoptionRequestRepository::streamExportRows, AdoptionExportRow.COLUMNS, format, out);
+    }
+
+    /**
+     * Runs on the response-writing thread, so it opens its own transaction for the cursor
+     */
+    private <T extends ExportRow> void export(Supplier<Stream<T>> query, List<String> columns,
+                                              ExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_CHARS);
+        if (format == ExportFormat.CSV) {
+            writeCsvLine(writer, columns.toArray());
+        }
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<T> rows = query.get()) {
+                    int written = 0;
+                    for (Iterator<T> it = rows.iterator(); it.hasNext(); ) {
+                        T row = it.next();
+                        if (format == ExportFormat.CSV) {
+                            writeCsvLine(writer, row.values());
+                        } else {
+                            writer.write(objectMapper.writeValueAsString(row));
+                            writer.write('\n');
+                        }
+                        if (++written % FLUSH_EVERY_ROWS == 0) {
+                            writer.flush();
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // Usually the client went away; the cursor and transaction are already closed
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private static void writeCsvLine(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(csvField(values[i].toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * RFC 4180: quote fields containing a separator, quote or line break; double inner quotes
+     */
+    private static String csvField(String value) {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        return quote ? "\"" + value.replace("\"", "\"\"") + "\"" : value;
+    }
+}
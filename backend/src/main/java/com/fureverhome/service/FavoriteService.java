@@ -1,5 +1,8 @@
 package com.fureverhome.service;
 
+import com.fureverhome.dto.DogSummary;
+import com.fureverhome.event.DogEngagementEvent;
+import com.fureverhome.event.FavoriteChangedEvent;
 import com.fureverhome.model.Dog;
 import com.fureverhome.model.Favorite;
 import com.fureverhome.model.User;
@@ -7,10 +10,15 @@ import com.fureverhome.repository.DogRepository;
 import com.fureverhome.repository.FavoriteRepository;
 import com.fureverhome.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -19,6 +27,7 @@ public class FavoriteService {
     private final FavoriteRepository favoriteRepository;
     private final UserRepository userRepository;
     private final DogRepository dogRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Get all favorite dog IDs for a user
@@ -34,6 +43,14 @@ public class FavoriteService {
         return favoriteRepository.findByUserId(userId);
     }
 
+    /**
+     * Get the user's favorite dogs as card summaries
+     */
+    @Transactional(readOnly = true)
+    public List<DogSummary> getUserFavoriteDogs(Long userId) {
+        return favoriteRepository.findFavoriteDogSummaries(userId);
+    }
+
     /**
      * Add a dog to user's favorites
      */
@@ -57,7 +74,11 @@ public class FavoriteService {
         favorite.setUser(user);
         favorite.setDog(dog);
 
-        return favoriteRepository.save(favorite);
+        Favorite saved = favoriteRepository.save(favorite);
+        dogRepository.incrementFavoriteCount(dogId);
+        eventPublisher.publishEvent(DogEngagementEvent.of(dogId, DogEngagementEvent.Type.FAVORITED));
+        eventPublisher.publishEvent(new FavoriteChangedEvent(userId, dogId, true));
+        return saved;
     }
 
     /**
@@ -65,10 +86,12 @@ public class FavoriteService {
      */
     @Transactional
     public void removeFavorite(Long userId, Long dogId) {
-        if (!favoriteRepository.existsByUserIdAndDogId(userId, dogId)) {
+        // The delete itself decides: two concurrent removals can't both decrement
+        if (favoriteRepository.deleteByUserIdAndDogId(userId, dogId) == 0) {
             throw new RuntimeException("Favorite not found");
         }
-        favoriteRepository.deleteByUserIdAndDogId(userId, dogId);
+        dogRepository.decrementFavoriteCount(dogId);
+        eventPublisher.publishEvent(new FavoriteChangedEvent(userId, dogId, false));
     }
 
     /**
@@ -82,7 +105,35 @@ public class FavoriteService {
      * Get count of how many users favorited a specific dog
      */
     public long getFavoriteCount(Long dogId) {
-        return favoriteRepository.countByDogId(dogId);
+        return getFavoriteCounts(List.of(dogId)).getOrDefault(dogId, 0L);
+    }
+
+    /**
+     * Favorite counts for many dogs in one query, read from the denormalized dogs.favorite_count
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Long> getFavoriteCounts(Collection<Long> dogIds) {
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        if (dogIds.isEmpty()) {
+            return counts;
+        }
+        for (DogRepository.FavoriteCount count : dogRepository.findFavoriteCounts(dogIds)) {
+            counts.put(count.getDogId(), count.getFavoriteCount());
+        }
+        return counts;
+    }
+
+    /**
+     * Fix counters that drifted from the favorites table (manual SQL, failed requests, ...)
+     */
+    @Scheduled(cron = "${favorites.reconcile.cron:0 30 3 * * *}")
+    @Transactional
+    public int reconcileFavoriteCounts() {
+        int fixed = dogRepository.reconcileFavoriteCounts();
+        if (fixed > 0) {
+            System.out.println("Favorite counts reconciled for " + fixed + " dogs");
+        }
+        return fixed;
     }
 
     /**
@@ -0,0 +1,156 @@
+package com.fureverhome.service;
+
+import com.fureverhome.model.DogImageVariant;
+import com.fureverhome.storage.Blob;
+import com.fureverhome.storage.BlobDescriptor;
+import com.fureverhome.storage.BlobStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Turns an uploaded photo into the fixed-size variants served to the catalog and detail pages.
+ * The source is decoded once; each variant is re-encoded from pixels only, which drops EXIF
+ * and other metadata.
+ */
+@Service
+public class ImageProcessingService {
+
+    private static final float JPEG_QUALITY = 0.85f;
+
+    private final BlobStore blobStore;
+    private final long maxPixels;
+
+    public ImageProcessingService(BlobStore blobStore,
+                                  @Value("${storage.image.max-pixels:40000000}") long maxPixels) {
+        this.blobStore = blobStore;
+        this.maxPixels = maxPixels;
+    }
+
+    /**
+     * Decode the source image and store one variant per size. Images with transparency
+     * are encoded as PNG, everything else as JPEG.
+     */
+    public List<DogImageVariant> createVariants(Long dogId, Blob source) throws IOException {
+        BufferedImage decoded = decode(source);
+        boolean alpha = decoded.getColorModel().hasAlpha();
+        String format = alpha ? "png" : "jpeg";
+
+        // Largest first, so each variant is downscaled from the previous one
+        List<DogImageVariant> variants = new ArrayList<>();
+        BufferedImage current = decoded;
+        for (DogImageVariant.Variant variant : new DogImageVariant.Variant[] {
+                DogImageVariant.Variant.FULL, DogImageVariant.Variant.DETAIL,
+                DogImageVariant.Variant.CARD, DogImageVariant.Variant.THUMBNAIL}) {
+            current = scaleToFit(current, variant.getMaxEdge(), alpha);
+            BlobDescriptor blob = blobStore.put(new ByteArrayInputStream(encode(current, format)));
+            variants.add(new DogImageVariant(null, dogId, variant, blob.getSha256(), "image/" + format,
+                    blob.getSize(), current.getWidth(), current.getHeight()));
+        }
+        return variants;
+    }
+
+    /**
+     * Read the image header first and refuse decompression bombs before any pixels are allocated.
+     * Very large sources are subsampled while decoding, since no variant is larger than FULL.
+     */
+    private BufferedImage decode(Blob source) throws IOException {
+        try (InputStream in = source.openStream();
+             ImageInputStream input = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new RuntimeException("Unsupported image format");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if (width <= 0 || height <= 0 || (long) width * height > maxPixels) {
+                    throw new RuntimeException("Image dimensions are not allowed: " + width + "x" + height);
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.max(width, height) / DogImageVariant.Variant.FULL.getMaxEdge());
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Scale down to fit {@code maxEdge} (never up), halving per step so bilinear filtering stays smooth
+     */
+    private static BufferedImage scaleToFit(BufferedImage source, int maxEdge, boolean alpha) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxEdge / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+        int type = alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage current = source;
+        int currentWidth = width;
+        int currentHeight = height;
+        do {
+            currentWidth = Math.max(targetWidth, currentWidth / 2);
+            currentHeight = Math.max(targetHeight, currentHeight / 2);
+
+            BufferedImage next = new BufferedImage(currentWidth, currentHeight, type);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                if (!alpha) {
+                    graphics.setColor(Color.WHITE);
+                    graphics.fillRect(0, 0, currentWidth, currentHeight);
+                }
+                graphics.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (currentWidth != targetWidth || currentHeight != targetHeight);
+
+        return current;
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format).next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if ("jpeg".equals(format)) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(JPEG_QUALITY);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
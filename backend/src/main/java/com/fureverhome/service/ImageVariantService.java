@@ -0,0 +1,128 @@
+package com.fureverhome.service;
+
+import com.fureverhome.event.DogImageStoredEvent;
+import com.fureverhome.model.DogImage;
+import com.fureverhome.model.DogImageVariant;
+import com.fureverhome.repository.DogImageRepository;
+import com.fureverhome.repository.DogImageVariantRepository;
+import com.fureverhome.storage.Blob;
+import com.fureverhome.storage.BlobStore;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Generates the resized variants of a dog's photo off the request thread, after the upload
+ * has committed. The image is decoded outside any transaction; only the row writes are
+ * transactional, one dog at a time. An image that cannot be decoded is recorded on its
+ * dog_images row so the startup backfill does not retry it on every boot. Blobs written by
+ * a job that loses to a newer upload are left to {@link BlobCleanupService}.
+ */
+@Service
+public class ImageVariantService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final DogImageRepository dogImageRepository;
+    private final DogImageVariantRepository dogImageVariantRepository;
+    private final BlobStore blobStore;
+    private final ImageProcessingService imageProcessingService;
+    private final TransactionTemplate transaction;
+
+    public ImageVariantService(DogImageRepository dogImageRepository,
+                               DogImageVariantRepository dogImageVariantRepository,
+                               BlobStore blobStore,
+                               ImageProcessingService imageProcessingService,
+                               PlatformTransactionManager transactionManager) {
+        this.dogImageRepository = dogImageRepository;
+        this.dogImageVariantRepository = dogImageVariantRepository;
+        this.blobStore = blobStore;
+        this.imageProcessingService = imageProcessingService;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onImageStored(DogImageStoredEvent event) {
+        generateImageVariants(event.getDogId(), event.getSha256());
+    }
+
+    /**
+     * Create variants for images stored before they existed (or before FULL was added).
+     * Returns the number of dogs that got them.
+     */
+    public int generateMissingImageVariants() {
+        int generated = 0;
+        for (DogImage image : dogImageRepository.findWithoutVariant(DogImageVariant.Variant.FULL)) {
+            if (generateImageVariants(image.getDogId(), image.getSha256())) {
+                generated++;
+            }
+        }
+        return generated;
+    }
+
+    /**
+     * Decode the stored image once and upsert one row per variant. Returns false if the
+     * image could not be decoded or was replaced while this ran.
+     */
+    boolean generateImageVariants(Long dogId, String sha256) {
+        List<DogImageVariant> variants;
+        try {
+            Blob original = blobStore.open(sha256)
+                    .orElseThrow(() -> new RuntimeException("Stored image not found: " + sha256));
+            variants = imageProcessingService.createVariants(dogId, original);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Failed to generate image variants for dog " + dogId + ": " + e.getMessage());
+            recordFailure(dogId, sha256, e.getMessage());
+            return false;
+        }
+
+        Boolean saved = transaction.execute(status -> {
+            DogImage image = dogImageRepository.findByIdForUpdate(dogId).orElse(null);
+            if (image == null || !image.getSha256().equals(sha256)) {
+                // Deleted or replaced meanwhile; a newer upload has its own job
+                return false;
+            }
+
+            // Update rows in place: deleting and re-inserting would hit the (dog_id, variant) unique key
+            Map<DogImageVariant.Variant, DogImageVariant> existing = dogImageVariantRepository.findByDogId(dogId).stream()
+                    .collect(Collectors.toMap(DogImageVariant::getVariant, Function.identity()));
+            for (DogImageVariant generated : variants) {
+                DogImageVariant current = existing.get(generated.getVariant());
+                if (current != null) {
+                    generated.setId(current.getId());
+                }
+                dogImageVariantRepository.save(generated);
+            }
+            return true;
+        });
+        return Boolean.TRUE.equals(saved);
+    }
+
+    /**
+     * Mark the image as undecodable and drop any variants left from it, so nothing keeps
+     * serving a picture that no longer matches the upload
+     */
+    private void recordFailure(Long dogId, String sha256, String message) {
+        String error = message == null ? "unknown error"
+                : message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+        try {
+            transaction.executeWithoutResult(status -> {
+                if (dogImageRepository.markVariantsFailed(dogId, sha256, LocalDateTime.now(), error) > 0) {
+                    dogImageVariantRepository.deleteByDogId(dogId);
+                }
+            });
+        } catch (RuntimeException e) {
+            System.err.println("Failed to record image variant failure for dog " + dogId + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.fureverhome.service;
+
+import com.fureverhome.dto.DogSummary;
+import com.fureverhome.event.CatalogReloadedEvent;
+import com.fureverhome.event.DogChangedEvent;
+import com.fureverhome.event.FavoriteChangedEvent;
+import com.fureverhome.repository.DogRepository;
+import com.fureverhome.repository.FavoriteRepository;
+import com.fureverhome.search.DogFeatures;
+import com.fureverhome.search.SimilarDogIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Feeds the similar-dogs table: a full build once the application is ready, then dog and
+ * favorite changes after commit, folded in by a periodic refresh. Builds run in the
+ * background; the listeners on request threads only queue changes.
+ */
+@Service
+@RequiredArgsConstructor
+public class SimilarDogService {
+
+    private final DogRepository dogRepository;
+    private final FavoriteRepository favoriteRepository;
+    private final SimilarDogIndex similarDogIndex;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        buildIndex();
+    }
+
+    private void buildIndex() {
+        List<DogFeatures> dogs = dogRepository.findAllDogFeatures();
+        Map<Long, List<Long>> usersByDog = new HashMap<>();
+        for (FavoriteRepository.FavoritePair pair : favoriteRepository.findAllPairs()) {
+            usersByDog.computeIfAbsent(pair.getDogId(), id -> new ArrayList<>()).add(pair.getUserId());
+        }
+        similarDogIndex.rebuild(dogs, usersByDog);
+        System.out.println("Similar dogs precomputed for " + dogs.size() + " dogs in "
+                + similarDogIndex.getLastRebuildMillis() + " ms");
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDogChanged(DogChangedEvent event) {
+        DogFeatures dog = event.getType() == DogChangedEvent.Type.DELETED
+                ? null
+                : dogRepository.findDogFeatures(event.getDogId()).orElse(null);
+        if (dog == null) {
+            similarDogIndex.delete(event.getDogId());
+        } else {
+            similarDogIndex.upsert(dog);
+        }
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogReloaded(CatalogReloadedEvent event) {
+        buildIndex();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFavoriteChanged(FavoriteChangedEvent event) {
+        similarDogIndex.favoriteChanged(event.getUserId(), event.getDogId(), event.isAdded());
+    }
+
+    @Scheduled(fixedDelayString = "${recommend.similar.refresh-interval-ms:5000}")
+    public void refresh() {
+        similarDogIndex.refreshIfDirty();
+    }
+
+    /**
+     * Most similar dogs that are still available, best first
+     */
+    public List<DogSummary> getSimilarDogs(Long dogId, int limit) {
+        limit = Math.max(1, Math.min(limit, SimilarDogIndex.MAX_NEIGHBORS));
+        List<Long> ids = similarDogIndex.similarTo(dogId, SimilarDogIndex.MAX_NEIGHBORS);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, DogSummary> summaries = dogRepository.findSummariesByIds(ids).stream()
+                .collect(Collectors.toMap(DogSummary::getId, Function.identity()));
+
+        // Rows lag writes by up to one refresh interval, so recheck availability
+        List<DogSummary> similar = new ArrayList<>(limit);
+        for (Long id : ids) {
+            DogSummary dog = summaries.get(id);
+            if (dog != null && Boolean.TRUE.equals(dog.getAvailable())) {
+                similar.add(dog);
+                if (similar.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return similar;
+    }
+}
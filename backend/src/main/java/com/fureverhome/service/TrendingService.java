@@ -0,0 +1,207 @@
+package com.fureverhome.service;
+
+import com.fureverhome.dto.DogSummary;
+import com.fureverhome.event.DogChangedEvent;
+import com.fureverhome.event.DogEngagementEvent;
+import com.fureverhome.repository.DogRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Ranks dogs by exponentially decayed engagement (favorites and adoption requests).
+ *
+ * A dog's score at time t is sum(w * e^(-decay * (t - t_event))). Every score shares the
+ * e^(-decay * t) factor, so the ranking only needs S = sum(w * e^(decay * t_event)), kept
+ * as ln(S) to avoid overflow. Adding an event is one log-add-exp and one skip list
+ * re-insert (O(log n)); nothing has to be re-decayed as time passes. Scores are
+ * checkpointed to dog_trending_scores and reloaded on startup.
+ */
+@Service
+public class TrendingService {
+
+    // Fixed origin for event times, so checkpointed log scores stay valid across restarts
+    private static final Instant SCORE_EPOCH = Instant.parse("2024-01-01T00:00:00Z");
+
+    private static final double FAVORITE_WEIGHT = 1.0;
+    private static final double ADOPTION_REQUEST_WEIGHT = 3.0;
+
+    // Dogs whose current score decayed below this are dropped from memory and the checkpoint
+    private static final double MIN_CURRENT_SCORE = 0.01;
+
+    private final DogRepository dogRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final double decayPerSecond;
+
+    // Guarded by this; the skip list is also read without locking
+    private final Map<Long, Double> logScores = new HashMap<>();
+    private final Set<Long> dirty = new HashSet<>();
+    private final Set<Long> removed = new HashSet<>();
+    private final ConcurrentSkipListSet<Ranked> ranking = new ConcurrentSkipListSet<>();
+
+    private record Ranked(double logScore, long dogId) implements Comparable<Ranked> {
+        @Override
+        public int compareTo(Ranked other) {
+            int byScore = Double.compare(other.logScore, logScore);
+            return byScore != 0 ? byScore : Long.compare(dogId, other.dogId);
+        }
+    }
+
+    public TrendingService(DogRepository dogRepository,
+                           JdbcTemplate jdbcTemplate,
+                           @Value("${trending.half-life:PT24H}") Duration halfLife) {
+        this.dogRepository = dogRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.decayPerSecond = Math.log(2) / halfLife.toSeconds();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void loadCheckpoint() {
+        jdbcTemplate.query("SELECT dog_id, log_score FROM dog_trending_scores", rs -> {
+            long dogId = rs.getLong("dog_id");
+            double logScore = rs.getDouble("log_score");
+            logScores.put(dogId, logScore);
+            ranking.add(new Ranked(logScore, dogId));
+        });
+        System.out.println("Trending scores loaded for " + logScores.size() + " dogs");
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEngagement(DogEngagementEvent event) {
+        double weight = event.getType() == DogEngagementEvent.Type.ADOPTION_REQUESTED
+                ? ADOPTION_REQUEST_WEIGHT
+                : FAVORITE_WEIGHT;
+        record(event.getDogId(), weight, event.getOccurredAt());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onDogChanged(DogChangedEvent event) {
+        if (event.getType() == DogChangedEvent.Type.DELETED) {
+            remove(event.getDogId());
+        }
+    }
+
+    public synchronized void record(Long dogId, double weight, Instant at) {
+        double added = Math.log(weight) + decayPerSecond * secondsSinceEpoch(at);
+        Double previous = logScores.get(dogId);
+        double updated = previous == null ? added : logAddExp(previous, added);
+        if (previous != null) {
+            ranking.remove(new Ranked(previous, dogId));
+        }
+        ranking.add(new Ranked(updated, dogId));
+        logScores.put(dogId, updated);
+        dirty.add(dogId);
+        removed.remove(dogId);
+    }
+
+    /**
+     * Ids of the highest-scoring dogs, best first
+     */
+    public List<Long> getTopDogIds(int limit) {
+        List<Long> ids = new ArrayList<>(limit);
+        for (Ranked ranked : ranking) {
+            if (ids.size() >= limit) {
+                break;
+            }
+            ids.add(ranked.dogId());
+        }
+        return ids;
+    }
+
+    /**
+     * Top available dogs. Over-fetches candidates since adopted dogs are skipped.
+     */
+    public List<DogSummary> getTrendingDogs(int limit) {
+        List<Long> candidates = getTopDogIds(limit * 2);
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, DogSummary> summaries = dogRepository.findSummariesByIds(candidates).stream()
+                .collect(Collectors.toMap(DogSummary::getId, Function.identity()));
+
+        List<DogSummary> trending = new ArrayList<>(limit);
+        for (Long dogId : candidates) {
+            DogSummary dog = summaries.get(dogId);
+            if (dog != null && Boolean.TRUE.equals(dog.getAvailable())) {
+                trending.add(dog);
+                if (trending.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return trending;
+    }
+
+    /**
+     * Persist changed scores and drop fully decayed ones
+     */
+    @Scheduled(fixedDelayString = "${trending.checkpoint-interval-ms:300000}",
+            initialDelayString = "${trending.checkpoint-interval-ms:300000}")
+    public void checkpoint() {
+        List<Object[]> upserts = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        synchronized (this) {
+            double threshold = Math.log(MIN_CURRENT_SCORE) + decayPerSecond * secondsSinceEpoch(Instant.now());
+            for (Map.Entry<Long, Double> entry : new ArrayList<>(logScores.entrySet())) {
+                if (entry.getValue() < threshold) {
+                    remove(entry.getKey());
+                }
+            }
+            for (Long dogId : dirty) {
+                upserts.add(new Object[] {dogId, logScores.get(dogId)});
+            }
+            for (Long dogId : removed) {
+                deletes.add(new Object[] {dogId});
+            }
+            dirty.clear();
+            removed.clear();
+        }
+
+        if (!upserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO dog_trending_scores (dog_id, log_score, updated_at) VALUES (?, ?, now()) " +
+                    "ON CONFLICT (dog_id) DO UPDATE SET log_score = EXCLUDED.log_score, updated_at = now()",
+                    upserts);
+        }
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.batchUpdate("DELETE FROM dog_trending_scores WHERE dog_id = ?", deletes);
+        }
+    }
+
+    /**
+     * Caller holds the lock
+     */
+    private void remove(Long dogId) {
+        Double previous = logScores.remove(dogId);
+        if (previous != null) {
+            ranking.remove(new Ranked(previous, dogId));
+            dirty.remove(dogId);
+            removed.add(dogId);
+        }
+    }
+
+    private static double secondsSinceEpoch(Instant at) {
+        return Duration.between(SCORE_EPOCH, at).toMillis() / 1000.0;
+    }
+
+    private static double logAddExp(double a, double b) {
+        double max = Math.max(a, b);
+        return max + Math.log1p(Math.exp(Math.min(a, b) - max));
+    }
+}
@@ -4,7 +4,13 @@ import com.fureverhome.dto.PasswordUpdateRequest;
 import com.fureverhome.dto.UserProfileDTO;
 import com.fureverhome.dto.UserProfileUpdateRequest;
 import com.fureverhome.model.User;
+import com.fureverhome.model.UserAvatar;
+import com.fureverhome.repository.UserAvatarRepository;
 import com.fureverhome.repository.UserRepository;
+import com.fureverhome.storage.ImageCache;
+import com.fureverhome.storage.ImageUploader;
+import com.fureverhome.storage.UploadedImage;
+import com.fureverhome.storage.ImageUrls;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -12,13 +18,17 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserAvatarRepository userAvatarRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ImageCache imageCache;
+    private final ImageUploader imageUploader;
 
     /**
      * Get user profile by email
@@ -62,11 +72,11 @@ public class UserService {
                 System.out.println("Avatar size: " + avatar.getSize());
                 System.out.println("Avatar content type: " + avatar.getContentType());
 
-                // Store avatar as BLOB in database
-                user.setAvatar(avatar.getBytes());
-                user.setAvatarContentType(avatar.getContentType());
+                try (InputStream content = avatar.getInputStream()) {
+                    storeAvatar(user, content);
+                }
 
-                System.out.println("Avatar stored in database");
+                System.out.println("Avatar stored in blob store");
             } catch (IOException e) {
                 System.err.println("Failed to upload avatar: " + e.getMessage());
                 e.printStackTrace();
@@ -78,6 +88,21 @@ public class UserService {
         return convertToDTO(updatedUser);
     }
 
+    /**
+     * Replace the avatar from a raw request body, streamed straight into the blob store
+     */
+    @Transactional
+    public UserProfileDTO updateAvatar(String email, InputStream content) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        try {
+            storeAvatar(user, content);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to upload avatar: " + e.getMessage());
+        }
+        return convertToDTO(userRepository.save(user));
+    }
+
     /**
      * Update user password
      */
@@ -96,6 +121,29 @@ public class UserService {
         userRepository.save(user);
     }
 
+    /**
+     * Stream avatar bytes into the blob store, record them in user_avatars and bump the avatar version
+     */
+    private void storeAvatar(User user, InputStream content) throws IOException {
+        UploadedImage upload = imageUploader.store(content);
+
+        UserAvatar avatar = userAvatarRepository.findById(user.getId()).orElseGet(UserAvatar::new);
+        if (avatar.getSha256() != null && !avatar.getSha256().equals(upload.getSha256())) {
+            imageCache.evict(avatar.getSha256());
+        }
+
+        long nextVersion = user.getAvatarVersion() + 1;
+        avatar.setUserId(user.getId());
+        avatar.setSha256(upload.getSha256());
+        avatar.setContentType(upload.getContentType());
+        avatar.setSize(upload.getSize());
+        avatar.setAvatarVersion(nextVersion);
+        userAvatarRepository.save(avatar);
+
+        user.setHasAvatar(true);
+        user.setAvatarVersion(nextVersion);
+    }
+
     /**
      * Convert User entity to DTO
      */
@@ -110,8 +158,8 @@ public class UserService {
         dto.setAddress(user.getAddress());
 
         // Generate avatar URL from user ID if avatar exists
-        if (user.getAvatar() != null && user.getAvatar().length > 0) {
-            dto.setAvatarUrl("/api/avatars/" + user.getId());
+        if (user.hasAvatar()) {
+            dto.setAvatarUrl(ImageUrls.avatar(user.getId(), user.getAvatarVersion()));
         }
 
         dto.setRole(user.getRole().toString());
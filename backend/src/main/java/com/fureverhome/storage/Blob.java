@@ -0,0 +1,33 @@
+package com.fureverhome.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Readable handle to a stored blob. Content is transferred to a channel
+ * instead of being materialized as a byte array.
+ */
+public interface Blob {
+
+    String getSha256();
+
+    long getSize();
+
+    /**
+     * Copy {@code count} bytes starting at {@code position} to the target channel
+     */
+    void transferTo(long position, long count, WritableByteChannel target) throws IOException;
+
+    /**
+     * Open a sequential stream over the content (caller closes it)
+     */
+    InputStream openStream() throws IOException;
+
+    /**
+     * Backing file, when the blob lives on the local filesystem (enables sendfile)
+     */
+    Optional<Path> getFile();
+}
@@ -0,0 +1,13 @@
+package com.fureverhome.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlobDescriptor {
+    private String sha256;
+    private long size;
+}
@@ -0,0 +1,195 @@
+package com.fureverhome.storage;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Writes a blob to the servlet response without copying it onto the heap.
+ * Uses Tomcat sendfile when the connector supports it, and FileChannel.transferTo otherwise.
+ * Honors Range / If-Range with 206 Partial Content, including multipart/byteranges.
+ */
+@Component
+public class BlobResponseWriter {
+
+    private static final String SENDFILE_SUPPORT_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    // Requests asking for more ranges than this are answered with the full body
+    private static final int MAX_RANGES = 16;
+
+    /**
+     * Write the blob, or the requested byte ranges of it. The content type and any
+     * ETag must already be set on the response. HEAD gets the same status and headers
+     * as GET, without the body.
+     */
+    public void write(Blob blob, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long size = blob.getSize();
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        String rangeHeader = bytesRange(request);
+        if (rangeHeader == null || !ifRangeMatches(request, response)) {
+            response.setContentLengthLong(size);
+            writeRegion(blob, 0, size, request, response);
+            return;
+        }
+
+        List<long[]> ranges;
+        try {
+            ranges = resolveRanges(HttpRange.parseRanges(rangeHeader), size);
+        } catch (IllegalArgumentException e) {
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+            response.setContentLengthLong(0);
+            return;
+        }
+
+        if (ranges == null) {
+            // Too many or overlapping-to-excess ranges: serving the whole body is cheaper
+            response.setContentLengthLong(size);
+            writeRegion(blob, 0, size, request, response);
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        if (ranges.size() == 1) {
+            long start = ranges.get(0)[0];
+            long end = ranges.get(0)[1];
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+            response.setContentLengthLong(end - start + 1);
+            writeRegion(blob, start, end - start + 1, request, response);
+        } else {
+            writeMultipart(blob, ranges, request, response);
+        }
+    }
+
+    /**
+     * The Range header of a GET or HEAD, normalized to a lower-case "bytes=" prefix. Other
+     * methods and other range units get null: RFC 9110 has unknown units ignored, not refused.
+     */
+    private static String bytesRange(HttpServletRequest request) {
+        String method = request.getMethod();
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range == null || !("GET".equals(method) || "HEAD".equals(method))) {
+            return null;
+        }
+        range = range.trim();
+        return range.regionMatches(true, 0, "bytes=", 0, 6) ? "bytes=" + range.substring(6) : null;
+    }
+
+    /**
+     * If-Range only allows a partial response when its validator matches the current
+     * (strong) ETag. Date validators are not issued by us, so they never match.
+     */
+    private static boolean ifRangeMatches(HttpServletRequest request, HttpServletResponse response) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        String etag = response.getHeader(HttpHeaders.ETAG);
+        return etag != null && !ifRange.startsWith("W/") && ifRange.trim().equals(etag);
+    }
+
+    /**
+     * Convert parsed ranges to inclusive [start, end] offsets. Unsatisfiable ranges are
+     * dropped; if none remain an IllegalArgumentException signals 416. Returns null when
+     * the request should be answered with the full body instead.
+     */
+    private static List<long[]> resolveRanges(List<HttpRange> httpRanges, long size) {
+        if (httpRanges.isEmpty() || httpRanges.size() > MAX_RANGES) {
+            return null;
+        }
+
+        List<long[]> ranges = new ArrayList<>();
+        long total = 0;
+        for (HttpRange httpRange : httpRanges) {
+            long start;
+            long end;
+            try {
+                start = httpRange.getRangeStart(size);
+                end = httpRange.getRangeEnd(size);
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+            if (size == 0 || start > end) {
+                continue;
+            }
+            ranges.add(new long[] {start, end});
+            total += end - start + 1;
+        }
+
+        if (ranges.isEmpty()) {
+            throw new IllegalArgumentException("No satisfiable range");
+        }
+        return total > size ? null : ranges;
+    }
+
+    private void writeMultipart(Blob blob, List<long[]> ranges,
+                                HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String contentType = response.getContentType();
+        String boundary = new String(MimeTypeUtils.generateMultipartBoundary(), StandardCharsets.US_ASCII);
+
+        List<byte[]> partHeaders = new ArrayList<>(ranges.size());
+        long contentLength = 0;
+        for (long[] range : ranges) {
+            String header = "\r\n--" + boundary + "\r\n"
+                    + (contentType != null ? "Content-Type: " + contentType + "\r\n" : "")
+                    + "Content-Range: bytes " + range[0] + "-" + range[1] + "/" + blob.getSize() + "\r\n\r\n";
+            byte[] headerBytes = header.getBytes(StandardCharsets.US_ASCII);
+            partHeaders.add(headerBytes);
+            contentLength += headerBytes.length + (range[1] - range[0] + 1);
+        }
+        byte[] closing = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+        contentLength += closing.length;
+
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        response.setContentLengthLong(contentLength);
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+
+        ServletOutputStream out = response.getOutputStream();
+        WritableByteChannel channel = Channels.newChannel(out);
+        for (int i = 0; i < ranges.size(); i++) {
+            long[] range = ranges.get(i);
+            out.write(partHeaders.get(i));
+            blob.transferTo(range[0], range[1] - range[0] + 1, channel);
+        }
+        out.write(closing);
+        response.flushBuffer();
+    }
+
+    private void writeRegion(Blob blob, long start, long count,
+                             HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+
+        Optional<Path> file = blob.getFile();
+        if (file.isPresent() && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTR))) {
+            // Tomcat streams the file straight from the page cache to the socket after we return
+            request.setAttribute(SENDFILE_FILENAME_ATTR, file.get().toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, start + count);
+            return;
+        }
+
+        blob.transferTo(start, count, Channels.newChannel(response.getOutputStream()));
+        response.flushBuffer();
+    }
+}
@@ -0,0 +1,45 @@
+package com.fureverhome.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed storage for binary content such as dog photos and avatars.
+ * Blobs are keyed by the hex sha-256 of their bytes, so storing the same content twice is a no-op.
+ */
+public interface BlobStore {
+
+    /**
+     * Store the content of the stream and return its key and size
+     */
+    BlobDescriptor put(InputStream content) throws IOException;
+
+    /**
+     * Open a stored blob for reading, if present
+     */
+    Optional<Blob> open(String sha256) throws IOException;
+
+    /**
+     * Check if a blob is stored
+     */
+    boolean exists(String sha256);
+
+    /**
+     * Remove a stored blob (no-op if it does not exist)
+     */
+    void delete(String sha256) throws IOException;
+
+    /**
+     * Every stored blob with the time it was last written (caller closes the stream)
+     */
+    Stream<StoredBlob> list() throws IOException;
+
+    /**
+     * {@code storedAt} moves forward when identical content is stored again
+     */
+    record StoredBlob(String sha256, Instant storedAt) {
+    }
+}
@@ -0,0 +1,181 @@
+package com.fureverhome.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Stores blobs as files under {@code storage.blob.root}, sharded as {@code ab/cd/abcd...}.
+ * Writes go to a temp file first and are atomically moved into place once the hash is known.
+ */
+@Component
+public class FileSystemBlobStore implements BlobStore {
+
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path root;
+    private final Path tmpDir;
+
+    public FileSystemBlobStore(@Value("${storage.blob.root}") String root) throws IOException {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        this.tmpDir = this.root.resolve("tmp");
+        Files.createDirectories(tmpDir);
+    }
+
+    @Override
+    public BlobDescriptor put(InputStream content) throws IOException {
+        Path tmp = Files.createTempFile(tmpDir, "upload-", ".part");
+        try {
+            DigestInputStream digestStream = new DigestInputStream(content, sha256Digest());
+            long size = Files.copy(digestStream, tmp, StandardCopyOption.REPLACE_EXISTING);
+            String sha256 = HexFormat.of().formatHex(digestStream.getMessageDigest().digest());
+
+            Path target = pathFor(sha256);
+            if (Files.exists(target)) {
+                // Restart the garbage collector's grace period: a row is about to reference this again
+                touch(target);
+            } else {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    // Same content stored concurrently - keep the existing file
+                }
+            }
+            return new BlobDescriptor(sha256, size);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    @Override
+    public Optional<Blob> open(String sha256) throws IOException {
+        if (!isValidKey(sha256)) {
+            return Optional.empty();
+        }
+        Path path = pathFor(sha256);
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        return Optional.of(new FileBlob(sha256, path, Files.size(path)));
+    }
+
+    @Override
+    public boolean exists(String sha256) {
+        return isValidKey(sha256) && Files.isRegularFile(pathFor(sha256));
+    }
+
+    @Override
+    public void delete(String sha256) throws IOException {
+        if (isValidKey(sha256)) {
+            Files.deleteIfExists(pathFor(sha256));
+        }
+    }
+
+    @Override
+    public Stream<StoredBlob> list() throws IOException {
+        // root/ab/cd/abcd...; temp files never have a valid key as their name
+        return Files.walk(root, 3)
+                .filter(path -> isValidKey(path.getFileName().toString()) && Files.isRegularFile(path))
+                .map(path -> {
+                    try {
+                        return new StoredBlob(path.getFileName().toString(),
+                                Files.getLastModifiedTime(path).toInstant());
+                    } catch (IOException e) {
+                        return null;  // deleted while listing
+                    }
+                })
+                .filter(Objects::nonNull);
+    }
+
+    private static void touch(Path path) {
+        try {
+            Files.setLastModifiedTime(path, FileTime.from(Instant.now()));
+        } catch (IOException e) {
+            System.err.println("Could not touch blob " + path.getFileName() + ": " + e.getMessage());
+        }
+    }
+
+    private Path pathFor(String sha256) {
+        return root.resolve(sha256.substring(0, 2)).resolve(sha256.substring(2, 4)).resolve(sha256);
+    }
+
+    private static boolean isValidKey(String sha256) {
+        return sha256 != null && SHA256_HEX.matcher(sha256).matches();
+    }
+
+    private static MessageDigest sha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static final class FileBlob implements Blob {
+        private final String sha256;
+        private final Path path;
+        private final long size;
+
+        private FileBlob(String sha256, Path path, long size) {
+            this.sha256 = sha256;
+            this.path = path;
+            this.size = size;
+        }
+
+        @Override
+        public String getSha256() {
+            return sha256;
+        }
+
+        @Override
+        public long getSize() {
+            return size;
+        }
+
+        @Override
+        public void transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                long end = position + count;
+                while (position < end) {
+                    long sent = channel.transferTo(position, end - position, target);
+                    if (sent <= 0) {
+                        throw new EOFException("Blob " + sha256 + " is shorter than expected");
+                    }
+                    position += sent;
+                }
+            }
+        }
+
+        @Override
+        public InputStream openStream() throws IOException {
+            return Files.newInputStream(path);
+        }
+
+        @Override
+        public Optional<Path> getFile() {
+            return Optional.of(path);
+        }
+    }
+}
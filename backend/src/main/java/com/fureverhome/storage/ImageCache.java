@@ -0,0 +1,193 @@
+package com.fureverhome.storage;
+
+import com.fureverhome.dto.ImageCacheStatsDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Byte-budgeted LRU cache of hot images in front of the BlobStore. Content is held in
+ * direct ByteBuffers, outside the GC heap, and keyed by sha-256 so entries never go stale;
+ * eviction on update/delete only frees memory early.
+ */
+@Component
+public class ImageCache {
+
+    private final BlobStore blobStore;
+    private final long maxBytes;
+    private final long maxEntryBytes;
+
+    // Access-ordered: iteration starts at the least recently used entry
+    private final LinkedHashMap<String, ByteBuffer> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long residentBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public ImageCache(BlobStore blobStore,
+                      @Value("${storage.cache.max-bytes:67108864}") long maxBytes,
+                      @Value("${storage.cache.max-entry-bytes:2097152}") long maxEntryBytes) {
+        this.blobStore = blobStore;
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = Math.min(maxEntryBytes, maxBytes);
+    }
+
+    /**
+     * Open a blob from the cache, loading it from the BlobStore on a miss.
+     * Blobs larger than the per-entry limit are served straight from the store.
+     */
+    public Optional<Blob> open(String sha256) throws IOException {
+        ByteBuffer cached;
+        synchronized (this) {
+            cached = entries.get(sha256);
+        }
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(new BufferBlob(sha256, cached));
+        }
+
+        misses.increment();
+        Optional<Blob> stored = blobStore.open(sha256);
+        if (stored.isEmpty() || stored.get().getSize() > maxEntryBytes) {
+            return stored;
+        }
+
+        ByteBuffer loaded = load(stored.get());
+        synchronized (this) {
+            ByteBuffer raced = entries.get(sha256);
+            if (raced != null) {
+                return Optional.of(new BufferBlob(sha256, raced));
+            }
+            entries.put(sha256, loaded);
+            residentBytes += loaded.capacity();
+            evictToBudget();
+        }
+        return Optional.of(new BufferBlob(sha256, loaded));
+    }
+
+    /**
+     * Drop a blob from the cache
+     */
+    public void evict(String sha256) {
+        if (sha256 == null) {
+            return;
+        }
+        synchronized (this) {
+            ByteBuffer removed = entries.remove(sha256);
+            if (removed != null) {
+                residentBytes -= removed.capacity();
+                invalidations.increment();
+            }
+        }
+    }
+
+    public ImageCacheStatsDTO getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requests = hitCount + missCount;
+        synchronized (this) {
+            return new ImageCacheStatsDTO(
+                    entries.size(),
+                    residentBytes,
+                    maxBytes,
+                    hitCount,
+                    missCount,
+                    requests == 0 ? 0.0 : (double) hitCount / requests,
+                    evictions.sum(),
+                    invalidations.sum());
+        }
+    }
+
+    private void evictToBudget() {
+        Iterator<Map.Entry<String, ByteBuffer>> eldest = entries.entrySet().iterator();
+        while (residentBytes > maxBytes && eldest.hasNext()) {
+            residentBytes -= eldest.next().getValue().capacity();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    private static ByteBuffer load(Blob blob) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect((int) blob.getSize());
+        try (InputStream in = blob.openStream(); ReadableByteChannel channel = Channels.newChannel(in)) {
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // keep reading until the buffer is full or the stream ends
+            }
+        }
+        buffer.flip();
+        return buffer.asReadOnlyBuffer();
+    }
+
+    /**
+     * Cached blob; each read works on its own duplicate so concurrent requests do not share positions
+     */
+    private static final class BufferBlob implements Blob {
+        private final String sha256;
+        private final ByteBuffer buffer;
+
+        private BufferBlob(String sha256, ByteBuffer buffer) {
+            this.sha256 = sha256;
+            this.buffer = buffer;
+        }
+
+        @Override
+        public String getSha256() {
+            return sha256;
+        }
+
+        @Override
+        public long getSize() {
+            return buffer.limit();
+        }
+
+        @Override
+        public void transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            ByteBuffer region = buffer.duplicate();
+            region.position((int) position);
+            region.limit((int) (position + count));
+            while (region.hasRemaining()) {
+                target.write(region);
+            }
+        }
+
+        @Override
+        public InputStream openStream() {
+            ByteBuffer region = buffer.duplicate();
+            return new InputStream() {
+                @Override
+                public int read() {
+                    return region.hasRemaining() ? region.get() & 0xff : -1;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    if (!region.hasRemaining()) {
+                        return -1;
+                    }
+                    int n = Math.min(len, region.remaining());
+                    region.get(b, off, n);
+                    return n;
+                }
+            };
+        }
+
+        @Override
+        public Optional<Path> getFile() {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.fureverhome.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Detects the image type of an upload from its leading magic bytes, so non-image
+ * payloads are rejected before anything is written to storage. Only formats the JDK's
+ * ImageIO can decode are accepted, since dog photos are resized into variants.
+ */
+public final class ImageTypeSniffer {
+
+    private static final int HEADER_LENGTH = 8;
+
+    private ImageTypeSniffer() {
+    }
+
+    /**
+     * Peek at the first bytes of a stream (which must support mark/reset) and return
+     * the detected content type, or null if the content is not a supported image.
+     */
+    public static String detect(InputStream in) throws IOException {
+        byte[] header = new byte[HEADER_LENGTH];
+        in.mark(HEADER_LENGTH);
+        int read = in.readNBytes(header, 0, HEADER_LENGTH);
+        in.reset();
+
+        if (read >= 3 && u(header[0]) == 0xFF && u(header[1]) == 0xD8 && u(header[2]) == 0xFF) {
+            return "image/jpeg";
+        }
+        if (read >= 8 && u(header[0]) == 0x89 && header[1] == 'P' && header[2] == 'N' && header[3] == 'G'
+                && header[4] == 0x0D && header[5] == 0x0A && header[6] == 0x1A && header[7] == 0x0A) {
+            return "image/png";
+        }
+        if (read >= 6 && header[0] == 'G' && header[1] == 'I' && header[2] == 'F' && header[3] == '8'
+                && (header[4] == '7' || header[4] == '9') && header[5] == 'a') {
+            return "image/gif";
+        }
+        return null;
+    }
+
+    private static int u(byte b) {
+        return b & 0xFF;
+    }
+}
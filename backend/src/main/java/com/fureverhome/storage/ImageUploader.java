@@ -0,0 +1,38 @@
+package com.fureverhome.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Streams an uploaded image into the BlobStore with constant heap use: the type is sniffed
+ * from the first bytes, then the rest is piped to storage while the sha-256 and size are
+ * computed on the fly. The content type comes from the sniffed bytes, not from the client.
+ */
+@Component
+public class ImageUploader {
+
+    private final BlobStore blobStore;
+    private final long maxBytes;
+
+    public ImageUploader(BlobStore blobStore,
+                         @Value("${storage.upload.max-size:${spring.servlet.multipart.max-file-size}}") DataSize maxSize) {
+        this.blobStore = blobStore;
+        this.maxBytes = maxSize.toBytes();
+    }
+
+    public UploadedImage store(InputStream content) throws IOException {
+        BufferedInputStream in = new BufferedInputStream(content);
+        String contentType = ImageTypeSniffer.detect(in);
+        if (contentType == null) {
+            throw new IOException("Unsupported image type (expected JPEG, PNG or GIF)");
+        }
+
+        BlobDescriptor blob = blobStore.put(new SizeLimitedInputStream(in, maxBytes));
+        return new UploadedImage(blob.getSha256(), blob.getSize(), contentType);
+    }
+}
@@ -0,0 +1,20 @@
+package com.fureverhome.storage;
+
+/**
+ * Builds the public, versioned URLs of stored images. The sha-256 (dogs) or avatar
+ * version (users) in the path changes whenever the image does, so these URLs can be
+ * cached forever by clients.
+ */
+public final class ImageUrls {
+
+    private ImageUrls() {
+    }
+
+    public static String dogImage(Long dogId, String sha256) {
+        return "/api/dogs/" + dogId + "/image/" + sha256;
+    }
+
+    public static String avatar(Long userId, Long avatarVersion) {
+        return "/api/avatars/" + userId + "/" + avatarVersion;
+    }
+}
@@ -0,0 +1,14 @@
+package com.fureverhome.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadedImage {
+    private String sha256;
+    private long size;
+    private String contentType;
+}
@@ -0,0 +1,99 @@
+-- Baseline schema, matching the JPA entities.
+-- Written to be idempotent so it also runs against databases that were created by
+-- Hibernate's ddl-auto=update before Flyway owned the schema (see spring.flyway.baseline-version).
+
+CREATE TABLE IF NOT EXISTS users (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username          VARCHAR(50)  NOT NULL UNIQUE,
+    email             VARCHAR(100) NOT NULL UNIQUE,
+    password_hash     VARCHAR(255) NOT NULL,
+    role              VARCHAR(20)  NOT NULL,
+    first_name        VARCHAR(100),
+    last_name         VARCHAR(100),
+    phone_number      VARCHAR(20),
+    address           VARCHAR(500),
+    has_avatar        BOOLEAN      NOT NULL DEFAULT FALSE,
+    avatar_version    BIGINT       NOT NULL DEFAULT 0,
+    created_at        TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS dogs (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name               VARCHAR(100) NOT NULL,
+    breed              VARCHAR(100) NOT NULL,
+    age                INTEGER      NOT NULL,
+    gender             VARCHAR(10)  NOT NULL,
+    description        TEXT,
+    health_status      VARCHAR(50)  NOT NULL,
+    image_url          VARCHAR(255),
+    has_image          BOOLEAN      NOT NULL DEFAULT FALSE,
+    image_content_type VARCHAR(100),
+    image_size         BIGINT,
+    image_sha256       VARCHAR(64),
+    available          BOOLEAN      NOT NULL,
+    created_at         TIMESTAMP(6) NOT NULL,
+    updated_at         TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS adoption_requests (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    dog_id            BIGINT       NOT NULL REFERENCES dogs (id),
+    user_id           BIGINT       NOT NULL REFERENCES users (id),
+    status            VARCHAR(20)  NOT NULL,
+    message           TEXT,
+    full_name         VARCHAR(255),
+    email             VARCHAR(255),
+    phone             VARCHAR(255),
+    address           TEXT,
+    occupation        VARCHAR(255),
+    household_members INTEGER,
+    has_other_pets    BOOLEAN,
+    pet_experience    TEXT,
+    created_at        TIMESTAMP(6) NOT NULL,
+    updated_at        TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS favorites (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id    BIGINT       NOT NULL REFERENCES users (id),
+    dog_id     BIGINT       NOT NULL REFERENCES dogs (id),
+    created_at TIMESTAMP(6) NOT NULL,
+    UNIQUE (user_id, dog_id)
+);
+
+CREATE TABLE IF NOT EXISTS dog_images (
+    dog_id       BIGINT PRIMARY KEY,
+    content_type VARCHAR(100),
+    size         BIGINT       NOT NULL,
+    sha256       VARCHAR(64)  NOT NULL,
+    updated_at   TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS dog_image_variants (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    dog_id       BIGINT       NOT NULL,
+    variant      VARCHAR(20)  NOT NULL,
+    sha256       VARCHAR(64)  NOT NULL,
+    content_type VARCHAR(100) NOT NULL,
+    size         BIGINT       NOT NULL,
+    width        INTEGER      NOT NULL,
+    height       INTEGER      NOT NULL,
+    UNIQUE (dog_id, variant)
+);
+
+CREATE TABLE IF NOT EXISTS user_avatars (
+    user_id        BIGINT PRIMARY KEY,
+    sha256         VARCHAR(64)  NOT NULL,
+    content_type   VARCHAR(100),
+    size           BIGINT       NOT NULL,
+    avatar_version BIGINT       NOT NULL,
+    updated_at     TIMESTAMP(6) NOT NULL
+);
+
+-- Columns added after the first release; no-ops on databases that already have them.
+-- Legacy image columns (dogs.image, users.avatar, ...) are drained by BlobStoreMigration.
+ALTER TABLE dogs ADD COLUMN IF NOT EXISTS has_image BOOLEAN NOT NULL DEFAULT FALSE;
+ALTER TABLE dogs ADD COLUMN IF NOT EXISTS image_size BIGINT;
+ALTER TABLE dogs ADD COLUMN IF NOT EXISTS image_sha256 VARCHAR(64);
+ALTER TABLE users ADD COLUMN IF NOT EXISTS has_avatar BOOLEAN NOT NULL DEFAULT FALSE;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS avatar_version BIGINT NOT NULL DEFAULT 0;
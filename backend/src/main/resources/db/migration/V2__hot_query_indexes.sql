@@ -0,0 +1,24 @@
+-- Indexes for the hot lookups. Primary keys and the unique constraints on users(username),
+-- users(email), favorites(user_id, dog_id) and dog_image_variants(dog_id, variant) already
+-- cover lookups by those leading columns.
+
+-- Adoption requests: "my requests", requests per dog, and the admin status filter
+CREATE INDEX IF NOT EXISTS idx_adoption_requests_user_id ON adoption_requests (user_id);
+CREATE INDEX IF NOT EXISTS idx_adoption_requests_dog_id ON adoption_requests (dog_id);
+CREATE INDEX IF NOT EXISTS idx_adoption_requests_status ON adoption_requests (status, created_at);
+
+-- Favorite counts per dog and cleanup when a dog is deleted
+CREATE INDEX IF NOT EXISTS idx_favorites_dog_id ON favorites (dog_id);
+
+-- Keyset-paginated catalog: one (sort key, id) index per ordering, with and without
+-- the available filter
+CREATE INDEX IF NOT EXISTS idx_dogs_created_at_id ON dogs (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_dogs_name_id ON dogs (name, id);
+CREATE INDEX IF NOT EXISTS idx_dogs_age_id ON dogs (age, id);
+CREATE INDEX IF NOT EXISTS idx_dogs_available_created_at_id ON dogs (available, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_dogs_available_name_id ON dogs (available, name, id);
+CREATE INDEX IF NOT EXISTS idx_dogs_available_age_id ON dogs (available, age, id);
+
+-- Search filters: anchored breed prefix (lower(breed) LIKE 'lab%') and health status
+CREATE INDEX IF NOT EXISTS idx_dogs_breed_lower_prefix ON dogs (lower(breed) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_dogs_health_status ON dogs (health_status);
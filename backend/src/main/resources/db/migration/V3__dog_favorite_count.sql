@@ -0,0 +1,7 @@
+-- Denormalized favorite counter, maintained by FavoriteService and reconciled nightly
+ALTER TABLE dogs ADD COLUMN IF NOT EXISTS favorite_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE dogs d
+SET favorite_count = c.favorites
+FROM (SELECT dog_id, COUNT(*) AS favorites FROM favorites GROUP BY dog_id) c
+WHERE d.id = c.dog_id;
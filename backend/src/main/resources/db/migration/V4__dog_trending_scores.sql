@@ -0,0 +1,8 @@
+-- Checkpoint of the in-memory trending ranking (see TrendingService).
+-- log_score is ln(sum of event weight * e^(decay * seconds since 2024-01-01 UTC)),
+-- so stored values never need rescaling as time passes.
+CREATE TABLE IF NOT EXISTS dog_trending_scores (
+    dog_id     BIGINT PRIMARY KEY REFERENCES dogs (id) ON DELETE CASCADE,
+    log_score  DOUBLE PRECISION NOT NULL,
+    updated_at TIMESTAMP(6)     NOT NULL DEFAULT now()
+);
@@ -0,0 +1,14 @@
+-- Hourly engagement rollup (see EngagementService). Views are counted in memory per
+-- minute and added to the hour's row in batches; favorites and adoption requests are
+-- counted the same way so all three line up on the same time axis.
+CREATE TABLE IF NOT EXISTS dog_engagement_hourly (
+    dog_id            BIGINT       NOT NULL REFERENCES dogs (id) ON DELETE CASCADE,
+    hour              TIMESTAMP(6) NOT NULL,
+    views             BIGINT       NOT NULL DEFAULT 0,
+    favorites         BIGINT       NOT NULL DEFAULT 0,
+    adoption_requests BIGINT       NOT NULL DEFAULT 0,
+    PRIMARY KEY (dog_id, hour)
+);
+
+-- "Top dogs over the last N hours" scans a time range across all dogs
+CREATE INDEX IF NOT EXISTS idx_dog_engagement_hourly_hour ON dog_engagement_hourly (hour);
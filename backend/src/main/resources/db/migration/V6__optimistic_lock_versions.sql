@@ -0,0 +1,5 @@
+-- Optimistic locking (@Version) for dogs and adoption requests. Native updates that change
+-- availability or status bump the version themselves; favorite_count updates do not, since
+-- the entity never writes that column.
+ALTER TABLE dogs ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE adoption_requests ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,5 @@
+-- Variants are generated after the upload commits. A source that cannot be decoded is
+-- recorded here so the startup backfill skips it instead of retrying it on every boot;
+-- uploading a new image clears it.
+ALTER TABLE dog_images ADD COLUMN IF NOT EXISTS variants_failed_at TIMESTAMP(6);
+ALTER TABLE dog_images ADD COLUMN IF NOT EXISTS variants_error VARCHAR(500);
@@ -0,0 +1,119 @@
+package com.fureverhome.search;
+
+import com.fureverhome.model.Dog;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SimilarDogIndexTest {
+
+    private static final String[] BREEDS = {"Beagle", "Poodle", "Husky", "Aspin"};
+    private static final String[] HEALTH = {"Healthy", "Vaccinated", "Needs care"};
+    private static final int USERS = 40;
+
+    @Test
+    void incrementalRefreshMatchesFullRebuild() {
+        for (long seed = 1; seed <= 20; seed++) {
+            Random random = new Random(seed);
+            Map<Long, DogFeatures> dogs = new HashMap<>();
+            Map<Long, Set<Long>> favorites = new HashMap<>();
+            for (long id = 1; id <= 150; id++) {
+                dogs.put(id, randomDog(id, random));
+            }
+            for (int i = 0; i < 400; i++) {
+                favorites.computeIfAbsent(1 + (long) random.nextInt(150), id -> new HashSet<>())
+                        .add((long) random.nextInt(USERS));
+            }
+
+            SimilarDogIndex incremental = new SimilarDogIndex();
+            incremental.rebuild(dogs.values(), favorites);
+
+            long nextId = 151;
+            for (int round = 0; round < 5; round++) {
+                for (int change = 0; change < 15; change++) {
+                    long dogId = 1 + random.nextInt((int) nextId - 1);
+                    switch (random.nextInt(5)) {
+                        case 0 -> {
+                            DogFeatures dog = randomDog(dogId, random);
+                            dogs.put(dogId, dog);
+                            incremental.upsert(dog);
+                        }
+                        case 1 -> {
+                            dogs.remove(dogId);
+                            favorites.remove(dogId);
+                            incremental.delete(dogId);
+                        }
+                        case 2 -> {
+                            DogFeatures dog = randomDog(nextId++, random);
+                            dogs.put(dog.getId(), dog);
+                            incremental.upsert(dog);
+                        }
+                        case 3 -> {
+                            if (dogs.containsKey(dogId)) {
+                                long userId = random.nextInt(USERS);
+                                favorites.computeIfAbsent(dogId, id -> new HashSet<>()).add(userId);
+                                incremental.favoriteChanged(userId, dogId, true);
+                            }
+                        }
+                        default -> {
+                            Set<Long> users = favorites.get(dogId);
+                            if (users != null && !users.isEmpty()) {
+                                long userId = users.iterator().next();
+                                users.remove(userId);
+                                incremental.favoriteChanged(userId, dogId, false);
+                            }
+                        }
+                    }
+                }
+                incremental.refreshIfDirty();
+
+                SimilarDogIndex full = new SimilarDogIndex();
+                full.rebuild(dogs.values(), favorites);
+                for (long id = 1; id < nextId; id++) {
+                    assertEquals(full.similarTo(id, SimilarDogIndex.MAX_NEIGHBORS),
+                            incremental.similarTo(id, SimilarDogIndex.MAX_NEIGHBORS),
+                            "seed " + seed + ", round " + round + ", dog " + id);
+                }
+            }
+        }
+    }
+
+    @Test
+    void changesAreOnlyVisibleAfterRefresh() {
+        SimilarDogIndex index = new SimilarDogIndex();
+        index.rebuild(List.of(dog(1, "Beagle", true), dog(2, "Poodle", true)), Map.of());
+        assertEquals(List.of(2L), index.similarTo(1L, 10));
+
+        index.upsert(dog(3, "Beagle", true));
+        assertEquals(List.of(2L), index.similarTo(1L, 10));
+
+        index.refreshIfDirty();
+        assertEquals(List.of(3L, 2L), index.similarTo(1L, 10));
+    }
+
+    @Test
+    void unavailableDogsAreNeverSuggested() {
+        SimilarDogIndex index = new SimilarDogIndex();
+        index.rebuild(List.of(dog(1, "Beagle", true), dog(2, "Beagle", false)), Map.of());
+        assertTrue(index.similarTo(1L, 10).isEmpty());
+        assertEquals(List.of(1L), index.similarTo(2L, 10));
+    }
+
+    private static DogFeatures randomDog(long id, Random random) {
+        return new DogFeatures(id, BREEDS[random.nextInt(BREEDS.length)], random.nextInt(12),
+                random.nextBoolean() ? Dog.Gender.MALE : Dog.Gender.FEMALE,
+                HEALTH[random.nextInt(HEALTH.length)], random.nextInt(5) != 0);
+    }
+
+    private static DogFeatures dog(long id, String breed, boolean available) {
+        return new DogFeatures(id, breed, 3, Dog.Gender.MALE, "Healthy", available);
+    }
+}
@@ -0,0 +1,135 @@
+package com.fureverhome.service;
+
+import com.fureverhome.TestcontainersConfiguration;
+import com.fureverhome.dto.AdoptionStatusUpdateDTO;
+import com.fureverhome.exception.ConflictException;
+import com.fureverhome.model.AdoptionRequest;
+import com.fureverhome.model.Dog;
+import com.fureverhome.model.User;
+import com.fureverhome.repository.AdoptionRequestRepository;
+import com.fureverhome.repository.DogRepository;
+import com.fureverhome.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Many admins approving competing requests for the same dog at the same moment: exactly one
+ * approval wins, every other request ends up rejected, and the dog is no longer available.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+class AdoptionApprovalConcurrencyTest {
+
+    private static final int ROUNDS = 10;
+    private static final int COMPETING_REQUESTS = 8;
+
+    @Autowired
+    private AdoptionService adoptionService;
+
+    @Autowired
+    private AdoptionRequestRepository adoptionRequestRepository;
+
+    @Autowired
+    private DogRepository dogRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void exactlyOneConcurrentApprovalWins() throws Exception {
+        User applicant = userRepository.findByEmail("user@test.com").orElseThrow();
+        ExecutorService pool = Executors.newFixedThreadPool(COMPETING_REQUESTS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                Dog dog = dogRepository.save(newDog("Contested " + round));
+                List<Long> requestIds = new ArrayList<>();
+                for (int i = 0; i < COMPETING_REQUESTS; i++) {
+                    requestIds.add(adoptionRequestRepository.save(newRequest(dog, applicant)).getId());
+                }
+
+                int approved = 0;
+                int conflicts = 0;
+                for (Future<Boolean> outcome : approveAllAtOnce(pool, requestIds)) {
+                    if (outcome.get(30, TimeUnit.SECONDS)) {
+                        approved++;
+                    } else {
+                        conflicts++;
+                    }
+                }
+                assertEquals(1, approved, "round " + round + ": approvals that succeeded");
+                assertEquals(COMPETING_REQUESTS - 1, conflicts, "round " + round + ": approvals that got a conflict");
+
+                List<AdoptionRequest> requests = adoptionRequestRepository.findAllById(requestIds);
+                assertEquals(1, requests.stream().filter(r -> r.getStatus() == AdoptionRequest.Status.APPROVED).count());
+                assertEquals(COMPETING_REQUESTS - 1,
+                        requests.stream().filter(r -> r.getStatus() == AdoptionRequest.Status.REJECTED).count());
+                assertFalse(dogRepository.findById(dog.getId()).orElseThrow().getAvailable());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Each task reports true when its approval went through and false on a 409-style conflict;
+     * any other failure surfaces from {@link Future#get()}
+     */
+    private List<Future<Boolean>> approveAllAtOnce(ExecutorService pool, List<Long> requestIds) {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> outcomes = new ArrayList<>();
+        for (Long id : requestIds) {
+            outcomes.add(pool.submit(() -> {
+                start.await();
+                try {
+                    adoptionService.updateAdoptionStatus(id, new AdoptionStatusUpdateDTO(AdoptionRequest.Status.APPROVED));
+                    return true;
+                } catch (ConflictException | OptimisticLockingFailureException e) {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+        return outcomes;
+    }
+
+    private static Dog newDog(String name) {
+        Dog dog = new Dog();
+        dog.setName(name);
+        dog.setBreed("Beagle");
+        dog.setAge(2);
+        dog.setGender(Dog.Gender.FEMALE);
+        dog.setDescription("Everyone wants this one");
+        dog.setHealthStatus("Healthy");
+        dog.setAvailable(true);
+        return dog;
+    }
+
+    private static AdoptionRequest newRequest(Dog dog, User applicant) {
+        AdoptionRequest request = new AdoptionRequest();
+        request.setDog(dog);
+        request.setUser(applicant);
+        request.setStatus(AdoptionRequest.Status.PENDING);
+        request.setMessage("Please pick me");
+        request.setFullName("Test Applicant");
+        request.setEmail(applicant.getEmail());
+        return request;
+    }
+}
@@ -0,0 +1,139 @@
+package com.fureverhome.service;
+
+import com.fureverhome.TestcontainersConfiguration;
+import com.fureverhome.dto.AdoptionPage;
+import com.fureverhome.dto.AdoptionResponse;
+import com.fureverhome.model.AdoptionRequest;
+import com.fureverhome.model.Dog;
+import com.fureverhome.model.User;
+import com.fureverhome.repository.AdoptionRequestRepository;
+import com.fureverhome.repository.DogRepository;
+import com.fureverhome.repository.UserRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Adoption listings must cost a fixed number of statements however many rows they return:
+ * dog and user come from the same constructor-expression query, never from lazy loads.
+ *
+ * Statements are counted on the test thread only; global Hibernate statistics would also
+ * count the async listeners and scheduled jobs running in the same context.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.fureverhome.service.AdoptionListingStatementCountTest$ThreadStatementCounter")
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+class AdoptionListingStatementCountTest {
+
+    private static final int PAGE_SIZE = 5;
+
+    @Autowired
+    private AdoptionService adoptionService;
+
+    @Autowired
+    private AdoptionRequestRepository adoptionRequestRepository;
+
+    @Autowired
+    private DogRepository dogRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User applicant;
+
+    @BeforeEach
+    void createRequests() {
+        applicant = userRepository.findByEmail("user@test.com").orElseThrow();
+        User admin = userRepository.findByEmail("admin@fureverhome.com").orElseThrow();
+        // More pending rows than a page, spread over several dogs and both users
+        for (int i = 0; i < PAGE_SIZE * 2; i++) {
+            Dog dog = dogRepository.save(newDog("Listed " + i));
+            adoptionRequestRepository.save(newRequest(dog, i % 2 == 0 ? applicant : admin, AdoptionRequest.Status.PENDING));
+            adoptionRequestRepository.save(newRequest(dog, applicant, AdoptionRequest.Status.REJECTED));
+        }
+        ThreadStatementCounter.reset();
+    }
+
+    @Test
+    void statusFilteredPageIsOneQueryPlusCount() {
+        AdoptionPage page = adoptionService.getAdoptionRequestPage(AdoptionRequest.Status.PENDING, 0, PAGE_SIZE);
+
+        assertEquals(PAGE_SIZE, page.getItems().size());
+        assertTrue(page.getTotalElements() > PAGE_SIZE);
+        assertTrue(page.getItems().stream().allMatch(r -> AdoptionRequest.Status.PENDING.name().equals(r.getStatus())));
+        // The page itself, then its COUNT (needed because the page is full)
+        assertEquals(2, ThreadStatementCounter.count());
+    }
+
+    @Test
+    void unpagedListIsOneStatement() {
+        List<AdoptionResponse> requests = adoptionService.getAllAdoptionRequests(AdoptionRequest.Status.REJECTED);
+
+        assertTrue(requests.size() >= PAGE_SIZE * 2);
+        assertTrue(requests.stream().allMatch(r -> r.getDogName() != null && r.getUserEmail() != null));
+        assertEquals(1, ThreadStatementCounter.count());
+    }
+
+    @Test
+    void userListIsOneStatement() {
+        List<AdoptionResponse> requests = adoptionService.getUserAdoptionRequests(applicant.getId(), null);
+
+        assertTrue(requests.size() >= PAGE_SIZE * 2);
+        assertEquals(1, ThreadStatementCounter.count());
+    }
+
+    private static Dog newDog(String name) {
+        Dog dog = new Dog();
+        dog.setName(name);
+        dog.setBreed("Corgi");
+        dog.setAge(4);
+        dog.setGender(Dog.Gender.MALE);
+        dog.setHealthStatus("Healthy");
+        dog.setAvailable(true);
+        return dog;
+    }
+
+    private static AdoptionRequest newRequest(Dog dog, User user, AdoptionRequest.Status status) {
+        AdoptionRequest request = new AdoptionRequest();
+        request.setDog(dog);
+        request.setUser(user);
+        request.setStatus(status);
+        request.setFullName("Listing Test");
+        request.setEmail(user.getEmail());
+        return request;
+    }
+
+    /**
+     * Counts the SQL Hibernate prepares on the current thread
+     */
+    public static class ThreadStatementCounter implements StatementInspector {
+
+        private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+        static void reset() {
+            COUNT.get()[0] = 0;
+        }
+
+        static int count() {
+            return COUNT.get()[0];
+        }
+
+        @Override
+        public String inspect(String sql) {
+            COUNT.get()[0]++;
+            return sql;
+        }
+    }
+}
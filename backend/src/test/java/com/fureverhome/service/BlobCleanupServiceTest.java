@@ -0,0 +1,78 @@
+package com.fureverhome.service;
+
+import com.fureverhome.TestcontainersConfiguration;
+import com.fureverhome.storage.BlobStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+class BlobCleanupServiceTest {
+
+    @Autowired
+    private BlobCleanupService blobCleanupService;
+
+    @Autowired
+    private BlobStore blobStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${storage.blob.root}")
+    private String blobRoot;
+
+    @Test
+    void deletesOnlyOldUnreferencedBlobs() throws IOException {
+        String referenced = store("avatar bytes " + System.nanoTime());
+        String orphan = store("replaced photo " + System.nanoTime());
+        String inFlightContent = "upload not committed yet " + System.nanoTime();
+        String inFlight = store(inFlightContent);
+        jdbcTemplate.update("INSERT INTO user_avatars (user_id, sha256, content_type, size, avatar_version, updated_at) " +
+                "VALUES ((SELECT COALESCE(MAX(user_id), 0) + 1000 FROM user_avatars), ?, 'image/png', 1, 1, now())", referenced);
+        age(referenced);
+        age(orphan);
+
+        blobCleanupService.deleteUnreferencedBlobs();
+
+        assertTrue(blobStore.exists(referenced));
+        assertFalse(blobStore.exists(orphan));
+        assertTrue(blobStore.exists(inFlight), "blobs inside the grace period are kept");
+
+        // An old orphan stored again by a new upload gets a fresh grace period
+        age(inFlight);
+        store(inFlightContent);
+        blobCleanupService.deleteUnreferencedBlobs();
+        assertTrue(blobStore.exists(inFlight));
+    }
+
+    private String store(String content) throws IOException {
+        return blobStore.put(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8))).getSha256();
+    }
+
+    private void age(String sha256) throws IOException {
+        Path path = Paths.get(blobRoot).toAbsolutePath().normalize()
+                .resolve(sha256.substring(0, 2)).resolve(sha256.substring(2, 4)).resolve(sha256);
+        Files.setLastModifiedTime(path, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+    }
+}
@@ -0,0 +1,146 @@
+package com.fureverhome.service;
+
+import com.fureverhome.TestcontainersConfiguration;
+import com.fureverhome.dto.DogPage;
+import com.fureverhome.dto.DogSearchCriteria;
+import com.fureverhome.dto.DogSort;
+import com.fureverhome.model.Dog;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * p50/p99 of the multi-criteria search at 100k dogs, against what the old endpoint did: load
+ * every dog whose breed contains the term, then filter and page in memory.
+ *
+ * Opt-in, since seeding takes a while: mvn test -Dbenchmark=true -Dtest=DogSearchBenchmarkTest
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+class DogSearchBenchmarkTest {
+
+    private static final int DOGS = 100_000;
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 300;
+    private static final int PAGE_SIZE = 24;
+    private static final String MARKER = "search-benchmark";
+
+    private static final String[] BREEDS = {
+            "Labrador Retriever", "Golden Retriever", "German Shepherd", "Beagle", "Bulldog", "Poodle",
+            "Dachshund", "Boxer", "Husky", "Chihuahua", "Shih Tzu", "Aspin"};
+
+    @Autowired
+    private DogService dogService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update(
+                "INSERT INTO dogs (name, breed, age, gender, description, health_status, available, created_at, updated_at) " +
+                "SELECT 'Dog ' || g, (" + breedArray() + ")[1 + g % " + BREEDS.length + "], g % 15, " +
+                "CASE WHEN g % 2 = 0 THEN 'MALE' ELSE 'FEMALE' END, ?, " +
+                "(ARRAY['Healthy', 'Vaccinated', 'Needs care'])[1 + g % 3], g % 4 <> 0, " +
+                "now() - g * INTERVAL '1 minute', now() " +
+                "FROM generate_series(1, ?) g",
+                MARKER, DOGS);
+        jdbcTemplate.execute("ANALYZE dogs");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM dogs WHERE description = ?", MARKER);
+    }
+
+    @Test
+    void searchP99AtOneHundredThousandDogs() {
+        long[] current = measure(i -> {
+            DogSearchCriteria criteria = criteria(i);
+            criteria.setBreed(BREEDS[i % BREEDS.length].substring(0, 3));
+            // Every fourth query walks three pages deep, following the cursor
+            DogPage page = dogService.searchDogs(criteria, DogSort.values()[i % DogSort.values().length], null, PAGE_SIZE);
+            for (int depth = 1; depth < (i % 4 == 0 ? 3 : 1) && page.getNextCursor() != null; depth++) {
+                page = dogService.searchDogs(criteria, DogSort.values()[i % DogSort.values().length],
+                        page.getNextCursor(), PAGE_SIZE);
+            }
+        });
+
+        long[] previous = measure(i -> {
+            DogSearchCriteria criteria = criteria(i);
+            List<Dog> matches = entityManager
+                    .createQuery("SELECT d FROM Dog d WHERE upper(d.breed) LIKE upper(:breed)", Dog.class)
+                    .setParameter("breed", "%" + BREEDS[i % BREEDS.length].substring(0, 3) + "%")
+                    .getResultList();
+            matches.stream()
+                    .filter(d -> d.getAge() >= criteria.getMinAge() && d.getAge() <= criteria.getMaxAge())
+                    .filter(d -> d.getGender() == criteria.getGender())
+                    .filter(d -> d.getAvailable().equals(criteria.getAvailable()))
+                    .limit(PAGE_SIZE)
+                    .toList();
+        });
+
+        System.out.printf("Dog search at %,d dogs: p50 %.2f ms, p99 %.2f ms (previous: p50 %.2f ms, p99 %.2f ms)%n",
+                DOGS, millis(current, 0.50), millis(current, 0.99), millis(previous, 0.50), millis(previous, 0.99));
+        assertTrue(millis(current, 0.99) < millis(previous, 0.99),
+                "indexed search should beat loading and filtering every breed match");
+    }
+
+    private static String breedArray() {
+        return "ARRAY['" + String.join("', '", BREEDS) + "']";
+    }
+
+    private static DogSearchCriteria criteria(int i) {
+        DogSearchCriteria criteria = new DogSearchCriteria();
+        criteria.setMinAge(i % 5);
+        criteria.setMaxAge(i % 5 + 4);
+        criteria.setGender(i % 2 == 0 ? Dog.Gender.MALE : Dog.Gender.FEMALE);
+        criteria.setAvailable(true);
+        return criteria;
+    }
+
+    /**
+     * Sorted per-call latencies in nanoseconds, after a warmup
+     */
+    private static long[] measure(IntConsumer query) {
+        for (int i = 0; i < WARMUP; i++) {
+            query.accept(i);
+        }
+        long[] nanos = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            query.accept(i);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos;
+    }
+
+    private static double millis(long[] sortedNanos, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1_000_000.0;
+    }
+}
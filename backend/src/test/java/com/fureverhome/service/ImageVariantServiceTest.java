@@ -0,0 +1,90 @@
+package com.fureverhome.service;
+
+import com.fureverhome.TestcontainersConfiguration;
+import com.fureverhome.model.DogImage;
+import com.fureverhome.model.DogImageVariant;
+import com.fureverhome.repository.DogImageRepository;
+import com.fureverhome.repository.DogImageVariantRepository;
+import com.fureverhome.storage.BlobStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+class ImageVariantServiceTest {
+
+    @Autowired
+    private ImageVariantService imageVariantService;
+
+    @Autowired
+    private DogImageRepository dogImageRepository;
+
+    @Autowired
+    private DogImageVariantRepository dogImageVariantRepository;
+
+    @Autowired
+    private BlobStore blobStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void generatesEveryVariantIncludingFull() throws IOException {
+        BufferedImage photo = new BufferedImage(3000, 2000, BufferedImage.TYPE_INT_RGB);
+        photo.setRGB(0, 0, (int) (System.nanoTime() & 0xFFFFFF));
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(photo, "png", png);
+        Long dogId = insertImage(png.toByteArray());
+
+        assertTrue(imageVariantService.generateImageVariants(dogId, dogImageRepository.findById(dogId).orElseThrow().getSha256()));
+
+        DogImageVariant full = dogImageVariantRepository
+                .findByDogIdAndVariant(dogId, DogImageVariant.Variant.FULL).orElseThrow();
+        assertEquals(2400, full.getWidth());
+        assertEquals(1600, full.getHeight());
+        assertEquals(DogImageVariant.Variant.values().length, dogImageVariantRepository.findByDogId(dogId).size());
+    }
+
+    @Test
+    void undecodableImageIsRecordedAndNotRetried() throws IOException {
+        Long dogId = insertImage(("not an image " + System.nanoTime()).getBytes(StandardCharsets.UTF_8));
+        String sha256 = dogImageRepository.findById(dogId).orElseThrow().getSha256();
+
+        assertFalse(imageVariantService.generateImageVariants(dogId, sha256));
+
+        DogImage image = dogImageRepository.findById(dogId).orElseThrow();
+        assertNotNull(image.getVariantsFailedAt());
+        assertNotNull(image.getVariantsError());
+        assertTrue(dogImageVariantRepository.findByDogId(dogId).isEmpty());
+        assertTrue(dogImageRepository.findWithoutVariant(DogImageVariant.Variant.FULL).stream()
+                .noneMatch(pending -> pending.getDogId().equals(dogId)));
+    }
+
+    private Long insertImage(byte[] content) throws IOException {
+        String sha256 = blobStore.put(new ByteArrayInputStream(content)).getSha256();
+        Long dogId = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(dog_id), 0) + 1000 FROM dog_images", Long.class);
+        jdbcTemplate.update("INSERT INTO dog_images (dog_id, content_type, size, sha256, updated_at) " +
+                "VALUES (?, 'image/png', ?, ?, now())", dogId, content.length, sha256);
+        return dogId;
+    }
+}
@@ -0,0 +1,251 @@
+package com.fureverhome.storage;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BlobResponseWriterTest {
+
+    private static final String ETAG = "\"abc123\"";
+
+    private final BlobResponseWriter writer = new BlobResponseWriter();
+    private final byte[] content = sequence(100);
+
+    @Test
+    void noRangeReturnsFullBody() throws IOException {
+        MockHttpServletResponse response = write("GET", null, null);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("bytes", response.getHeader(HttpHeaders.ACCEPT_RANGES));
+        assertEquals(100, response.getContentLengthLong());
+        assertArrayEquals(content, response.getContentAsByteArray());
+    }
+
+    @Test
+    void singleRange() throws IOException {
+        MockHttpServletResponse response = write("GET", "bytes=10-19", null);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes 10-19/100", response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals(10, response.getContentLengthLong());
+        assertArrayEquals(slice(10, 19), response.getContentAsByteArray());
+    }
+
+    @Test
+    void suffixRange() throws IOException {
+        MockHttpServletResponse response = write("GET", "bytes=-10", null);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes 90-99/100", response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertArrayEquals(slice(90, 99), response.getContentAsByteArray());
+    }
+
+    @Test
+    void openEndedRange() throws IOException {
+        MockHttpServletResponse response = write("GET", "bytes=95-", null);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes 95-99/100", response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertArrayEquals(slice(95, 99), response.getContentAsByteArray());
+    }
+
+    @Test
+    void rangePastTheEndIsClamped() throws IOException {
+        MockHttpServletResponse response = write("GET", "bytes=90-500", null);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes 90-99/100", response.getHeader(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    void multipleRangesAreSentAsMultipart() throws IOException {
+        MockHttpServletResponse response = write("GET", "bytes=0-1,50-52", null);
+
+        assertEquals(206, response.getStatus());
+        assertTrue(response.getContentType().startsWith("multipart/byteranges; boundary="));
+        byte[] body = response.getContentAsByteArray();
+        assertEquals(body.length, response.getContentLengthLong());
+
+        String text = new String(body, StandardCharsets.ISO_8859_1);
+        assertTrue(text.contains("Content-Type: image/png\r\n"));
+        assertTrue(text.contains("Content-Range: bytes 0-1/100\r\n\r\n" + latin1(slice(0, 1))));
+        assertTrue(text.contains("Content-Range: bytes 50-52/100\r\n\r\n" + latin1(slice(50, 52))));
+        assertTrue(text.endsWith("--\r\n"));
+    }
+
+    @Test
+    void unsatisfiableRangeIs416() throws IOException {
+        MockHttpServletResponse response = write("GET", "bytes=200-300", null);
+
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */100", response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void malformedRangeIs416() throws IOException {
+        MockHttpServletResponse response = write("GET", "bytes=abc", null);
+
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */100", response.getHeader(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    void ifRangeMatchingEtagHonorsRange() throws IOException {
+        MockHttpServletResponse response = write("GET", "bytes=0-9", ETAG);
+
+        assertEquals(206, response.getStatus());
+        assertArrayEquals(slice(0, 9), response.getContentAsByteArray());
+    }
+
+    @Test
+    void ifRangeMismatchReturnsFullBody() throws IOException {
+        MockHttpServletResponse response = write("GET", "bytes=0-9", "\"stale\"");
+
+        assertEquals(200, response.getStatus());
+        assertNull(response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertArrayEquals(content, response.getContentAsByteArray());
+    }
+
+    @Test
+    void ifRangeWithWeakValidatorReturnsFullBody() throws IOException {
+        MockHttpServletResponse response = write("GET", "bytes=0-9", "W/" + ETAG);
+
+        assertEquals(200, response.getStatus());
+        assertArrayEquals(content, response.getContentAsByteArray());
+    }
+
+    @Test
+    void otherRangeUnitIsIgnored() throws IOException {
+        MockHttpServletResponse response = write("GET", "items=0-5", null);
+
+        assertEquals(200, response.getStatus());
+        assertNull(response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertArrayEquals(content, response.getContentAsByteArray());
+    }
+
+    @Test
+    void rangeUnitIsCaseInsensitive() throws IOException {
+        MockHttpServletResponse response = write("GET", "Bytes=10-19", null);
+
+        assertEquals(206, response.getStatus());
+        assertArrayEquals(slice(10, 19), response.getContentAsByteArray());
+    }
+
+    @Test
+    void headWritesNoBody() throws IOException {
+        MockHttpServletResponse response = write("HEAD", null, null);
+
+        assertEquals(200, response.getStatus());
+        assertEquals(100, response.getContentLengthLong());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void headWithRangeHasTheSameHeadersAsGet() throws IOException {
+        MockHttpServletResponse get = write("GET", "bytes=10-19", null);
+        MockHttpServletResponse head = write("HEAD", "bytes=10-19", null);
+
+        assertEquals(206, head.getStatus());
+        assertEquals(get.getHeader(HttpHeaders.CONTENT_RANGE), head.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals(get.getContentLengthLong(), head.getContentLengthLong());
+        assertEquals(0, head.getContentAsByteArray().length);
+    }
+
+    @Test
+    void headWithMultipleRangesSendsMultipartHeadersOnly() throws IOException {
+        MockHttpServletResponse head = write("HEAD", "bytes=0-1,50-52", null);
+
+        assertEquals(206, head.getStatus());
+        assertTrue(head.getContentType().startsWith("multipart/byteranges; boundary="));
+        // Part headers plus the five range bytes
+        assertTrue(head.getContentLengthLong() > 5);
+        assertEquals(0, head.getContentAsByteArray().length);
+    }
+
+    @Test
+    void headWithUnsatisfiableRangeIs416() throws IOException {
+        MockHttpServletResponse response = write("HEAD", "bytes=200-300", null);
+
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */100", response.getHeader(HttpHeaders.CONTENT_RANGE));
+    }
+
+    private MockHttpServletResponse write(String method, String range, String ifRange) throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/dogs/1/image");
+        if (range != null) {
+            request.addHeader(HttpHeaders.RANGE, range);
+        }
+        if (ifRange != null) {
+            request.addHeader(HttpHeaders.IF_RANGE, ifRange);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setContentType("image/png");
+        response.setHeader(HttpHeaders.ETAG, ETAG);
+        writer.write(new BytesBlob(content), request, response);
+        return response;
+    }
+
+    private static byte[] sequence(int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) i;
+        }
+        return bytes;
+    }
+
+    private byte[] slice(int from, int toInclusive) {
+        return Arrays.copyOfRange(content, from, toInclusive + 1);
+    }
+
+    private static String latin1(byte[] bytes) {
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    private record BytesBlob(byte[] bytes) implements Blob {
+
+        @Override
+        public String getSha256() {
+            return "test";
+        }
+
+        @Override
+        public long getSize() {
+            return bytes.length;
+        }
+
+        @Override
+        public void transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, (int) position, (int) count);
+            while (buffer.hasRemaining()) {
+                target.write(buffer);
+            }
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new ByteArrayInputStream(bytes);
+        }
+
+        @Override
+        public Optional<Path> getFile() {
+            return Optional.empty();
+        }
+    }
+}
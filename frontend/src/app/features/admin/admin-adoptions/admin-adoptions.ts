@@ -95,9 +95,9 @@ export class AdminAdoptions implements OnInit {
   getImageUrl(request: AdoptionRequest): string {
     // If dogImageUrl is provided from backend
     if (request.dogImageUrl) {
-      // If it starts with /api, prepend the base URL
+      // If it starts with /api, prepend the base URL and request the resized card variant
       if (request.dogImageUrl.startsWith('/api')) {
-        return `http://localhost:8080${request.dogImageUrl}`;
+        return `http://localhost:8080${request.dogImageUrl}?size=card`;
       }
       // If it's already a full URL, use it as is
       if (request.dogImageUrl.startsWith('http')) {
@@ -171,7 +171,14 @@ export class AdminAdoptions implements OnInit {
       },
       error: (error) => {
         console.error('Error updating status:', error);
-        alert('Failed to update status. Please try again.');
+        if (error.status === 409) {
+          // Another admin got there first (e.g. the dog was already adopted); show the current state
+          alert(error.error?.message || 'This request was changed by someone else.');
+          this.loadAdoptionRequests();
+          this.closeDetailsModal();
+        } else {
+          alert('Failed to update status. Please try again.');
+        }
       },
     });
   }
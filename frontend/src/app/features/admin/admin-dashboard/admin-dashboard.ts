@@ -21,6 +21,14 @@ interface DashboardStats {
   rejectedRequests: number;
 }
 
+// Shape of GET /admin/stats (only the fields the dashboard shows)
+interface AdminStatsResponse {
+  totalDogs: number;
+  availableDogs: number;
+  adoptedDogs: number;
+  requestsByStatus: Record<string, number>;
+}
+
 @Component({
   selector: 'app-admin-dashboard',
   standalone: true,
@@ -61,23 +69,18 @@ export class AdminDashboard implements OnInit {
     this.isLoading = true;
     this.errorMessage = '';
 
-    // Load all stats in parallel
-    Promise.all([
-      this.http.get<any[]>(`${this.apiUrl}/dogs`).toPromise(),
-      this.http.get<any[]>(`${this.apiUrl}/adoption-requests`).toPromise(),
-    ])
-      .then(([dogs, requests]) => {
-        console.log('Dashboard data loaded:', { dogs, requests });
-
-        // Calculate dog stats
-        this.stats.totalDogs = dogs?.length || 0;
-        this.stats.availableDogs = dogs?.filter((d) => d.available).length || 0;
-        this.stats.adoptedDogs = dogs?.filter((d) => !d.available).length || 0;
+    // Counts are aggregated server-side; the response is the same size however many dogs there are
+    this.http
+      .get<AdminStatsResponse>(`${this.apiUrl}/admin/stats`)
+      .toPromise()
+      .then((stats) => {
+        this.stats.totalDogs = stats?.totalDogs || 0;
+        this.stats.availableDogs = stats?.availableDogs || 0;
+        this.stats.adoptedDogs = stats?.adoptedDogs || 0;
 
-        // Calculate request stats
-        this.stats.pendingRequests = requests?.filter((r) => r.status === 'PENDING').length || 0;
-        this.stats.approvedRequests = requests?.filter((r) => r.status === 'APPROVED').length || 0;
-        this.stats.rejectedRequests = requests?.filter((r) => r.status === 'REJECTED').length || 0;
+        this.stats.pendingRequests = stats?.requestsByStatus?.['PENDING'] || 0;
+        this.stats.approvedRequests = stats?.requestsByStatus?.['APPROVED'] || 0;
+        this.stats.rejectedRequests = stats?.requestsByStatus?.['REJECTED'] || 0;
 
         this.isLoading = false;
       })
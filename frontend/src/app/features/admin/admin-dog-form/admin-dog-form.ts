@@ -107,8 +107,8 @@ export class AdminDogForm implements OnInit {
     if (!dog) return null;
 
     // Priority 1: If dog has binary image in database
-    if (dog.hasImage) {
-      return `http://localhost:8080/api/dogs/${dog.id}/image`;
+    if (dog.hasImage && dog.imagePath) {
+      return `http://localhost:8080${dog.imagePath}?size=detail`;
     }
 
     // Priority 2: If imageUrl is provided
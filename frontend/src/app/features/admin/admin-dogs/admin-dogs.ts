@@ -208,10 +208,9 @@ export class AdminDogs implements OnInit {
     }
 
     // Priority 1: If dog has binary image in database, use the image endpoint
-    if (dog.hasImage) {
-      // Add timestamp to bust browser cache and force reload
-      const timestamp = new Date().getTime();
-      return `http://localhost:8080/api/dogs/${dog.id}/image?t=${timestamp}`;
+    if (dog.hasImage && dog.imagePath) {
+      // Versioned URL is cached by the browser until the image changes; cards use the resized variant
+      return `http://localhost:8080${dog.imagePath}?size=card`;
     }
 
     // Priority 2: If imageUrl is provided
@@ -65,6 +65,7 @@ export class DogDetail implements OnInit {
   readonly CheckCircle = CheckCircle;
 
   dog: Dog | null = null;
+  similarDogs: Dog[] = [];
   isLoading = true;
   errorMessage = '';
   showAdoptionForm = false;
@@ -75,13 +76,17 @@ export class DogDetail implements OnInit {
   adoptionForm!: FormGroup;
 
   ngOnInit() {
-    const dogId = this.route.snapshot.paramMap.get('id');
-    if (dogId) {
-      this.loadDogDetails(+dogId);
-      this.checkIfAlreadyApplied(+dogId);
-    } else {
-      this.router.navigate(['/dogs']);
-    }
+    // Follow param changes: "You may also like" links reuse this component
+    this.route.paramMap.subscribe((params) => {
+      const dogId = params.get('id');
+      if (dogId) {
+        this.loadDogDetails(+dogId);
+        this.checkIfAlreadyApplied(+dogId);
+        this.loadSimilarDogs(+dogId);
+      } else {
+        this.router.navigate(['/dogs']);
+      }
+    });
 
     // Load user profile and initialize form with user data
     this.loadUserProfile();
@@ -161,6 +166,19 @@ export class DogDetail implements OnInit {
     });
   }
 
+  loadSimilarDogs(id: number) {
+    this.similarDogs = [];
+    this.http.get<Dog[]>(`${this.apiUrl}/dogs/${id}/similar?limit=6`).subscribe({
+      next: (dogs) => {
+        this.similarDogs = dogs;
+      },
+      error: (error) => {
+        // Optional section; the page works without it
+        console.error('Error loading similar dogs:', error);
+      },
+    });
+  }
+
   toggleAdoptionForm() {
     this.showAdoptionForm = !this.showAdoptionForm;
     if (this.showAdoptionForm) {
@@ -241,10 +259,9 @@ export class DogDetail implements OnInit {
     }
 
     // Priority 1: If dog has binary image in database, use the image endpoint
-    if (this.dog.hasImage) {
-      // Add timestamp to bust browser cache
-      const timestamp = new Date().getTime();
-      return `http://localhost:8080/api/dogs/${this.dog.id}/image?t=${timestamp}`;
+    if (this.dog.hasImage && this.dog.imagePath) {
+      // Versioned URL is cached by the browser until the image changes
+      return `http://localhost:8080${this.dog.imagePath}?size=detail`;
     }
 
     // Priority 2: If imageUrl is provided
@@ -267,6 +284,20 @@ export class DogDetail implements OnInit {
     return 'data:image/svg+xml,%3Csvg xmlns=%22http://www.w3.org/2000/svg%22 width=%22400%22 height=%22400%22%3E%3Crect fill=%22%232D6A4F%22 width=%22400%22 height=%22400%22/%3E%3Ctext x=%2250%25%22 y=%2250%25%22 dominant-baseline=%22middle%22 text-anchor=%22middle%22 font-family=%22Arial%22 font-size=%2248%22 fill=%22%23ffffff%22%3ENo Image%3C/text%3E%3C/svg%3E';
   }
 
+  getSimilarDogImageUrl(dog: Dog): string {
+    if (dog.hasImage && dog.imagePath) {
+      return `http://localhost:8080${dog.imagePath}?size=card`;
+    }
+    if (dog.imageUrl) {
+      if (dog.imageUrl.startsWith('http')) {
+        return dog.imageUrl;
+      }
+      const cleanedUrl = dog.imageUrl.startsWith('/api') ? dog.imageUrl.substring(4) : dog.imageUrl;
+      return `http://localhost:8080${cleanedUrl}`;
+    }
+    return 'data:image/svg+xml,%3Csvg xmlns=%22http://www.w3.org/2000/svg%22 width=%22400%22 height=%22300%22%3E%3Crect fill=%22%232D6A4F%22 width=%22400%22 height=%22300%22/%3E%3Ctext x=%2250%25%22 y=%2250%25%22 dominant-baseline=%22middle%22 text-anchor=%22middle%22 font-family=%22Arial%22 font-size=%2224%22 fill=%22%23ffffff%22%3ENo Image%3C/text%3E%3C/svg%3E';
+  }
+
   goBack() {
     this.router.navigate(['/dogs']);
   }
@@ -18,6 +18,7 @@ export interface Dog {
   healthStatus: string;
   imageUrl: string;
   hasImage?: boolean; // Backend computed property indicating binary image exists
+  imagePath?: string; // Content-versioned image URL, changes whenever the image does
   imageContentType?: string;
   available: boolean;
   createdAt: string;
@@ -248,10 +249,9 @@ export class Dogs implements OnInit {
 
   getDogImageUrl(dog: Dog): string {
     // Priority 1: If dog has binary image in database, use the image endpoint
-    if (dog.hasImage) {
-      // Add timestamp to bust browser cache
-      const timestamp = new Date().getTime();
-      return `http://localhost:8080/api/dogs/${dog.id}/image?t=${timestamp}`;
+    if (dog.hasImage && dog.imagePath) {
+      // Versioned URL is cached by the browser until the image changes; cards use the resized variant
+      return `http://localhost:8080${dog.imagePath}?size=card`;
     }
 
     // Priority 2: If imageUrl is provided
@@ -97,9 +97,9 @@ export class MyRequests implements OnInit {
   getImageUrl(request: AdoptionRequest): string {
     // If dogImageUrl is provided from backend
     if (request.dogImageUrl) {
-      // If it starts with /api, prepend the base URL
+      // If it starts with /api, prepend the base URL and request the resized card variant
       if (request.dogImageUrl.startsWith('/api')) {
-        return `http://localhost:8080${request.dogImageUrl}`;
+        return `http://localhost:8080${request.dogImageUrl}?size=card`;
       }
       // If it's already a full URL, use it as is
       if (request.dogImageUrl.startsWith('http')) {
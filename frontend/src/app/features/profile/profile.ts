@@ -112,13 +112,11 @@ export class Profile implements OnInit {
             address: profile.address,
           });
           if (profile.avatarUrl) {
-            // Add cache busting timestamp to force reload of updated avatar
-            const timestamp = new Date().getTime();
-            // Prepend base URL if avatar is a relative path
+            // Prepend base URL if avatar is a relative path; the versioned URL already busts the cache
             const avatarUrl = profile.avatarUrl.startsWith('http')
-              ? `${profile.avatarUrl}?t=${timestamp}`
-              : `http://localhost:8080${profile.avatarUrl}?t=${timestamp}`;
-            console.log('Avatar URL with cache busting:', avatarUrl);
+              ? profile.avatarUrl
+              : `http://localhost:8080${profile.avatarUrl}`;
+            console.log('Avatar URL:', avatarUrl);
             this.previewUrl.set(avatarUrl);
           }
           this.isLoadingProfile.set(false);
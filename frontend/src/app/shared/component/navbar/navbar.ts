@@ -63,17 +63,14 @@ export class Navbar implements OnInit {
 
     console.log('Raw avatar URL from auth service:', avatarUrl);
 
-    // Add cache busting timestamp to force reload when avatar updates
-    const timestamp = new Date().getTime();
-
-    // If URL already starts with http, return as-is with timestamp
+    // The URL carries the avatar version, so it changes (and busts the cache) only on a new upload
     if (avatarUrl.startsWith('http')) {
-      return `${avatarUrl}?t=${timestamp}`;
+      return avatarUrl;
     }
 
     // Ensure the URL starts with / for proper construction
     const cleanedUrl = avatarUrl.startsWith('/') ? avatarUrl : '/' + avatarUrl;
-    const finalUrl = `http://localhost:8080${cleanedUrl}?t=${timestamp}`;
+    const finalUrl = `http://localhost:8080${cleanedUrl}`;
 
     console.log('Final avatar URL:', finalUrl);
     return finalUrl;